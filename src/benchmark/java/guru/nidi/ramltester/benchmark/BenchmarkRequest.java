@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.model.RamlRequest;
+import guru.nidi.ramltester.model.Values;
+import guru.nidi.ramltester.util.FormDecoder;
+
+/**
+ * A fixed request which does not cost anything to inspect.
+ * Form values are decoded once when it is created.
+ */
+class BenchmarkRequest implements RamlRequest {
+    private final String method;
+    private final String path;
+    private final Values query;
+    private final Values headers;
+    private final String contentType;
+    private final byte[] content;
+    private final Values form;
+
+    BenchmarkRequest(String method, String path) {
+        this(method, path, new Values(), new Values(), null, null);
+    }
+
+    BenchmarkRequest(String method, String path, Values query, Values headers, String contentType, byte[] content) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.headers = headers;
+        this.contentType = contentType;
+        this.content = content;
+        this.form = content == null ? new Values() : new FormDecoder().decode(this);
+    }
+
+    @Override
+    public String getRequestUrl(String baseUri, boolean includeServletPath) {
+        return (baseUri == null ? "http://api.example.com" : baseUri) + path;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public Values getQueryValues() {
+        return query;
+    }
+
+    @Override
+    public Values getFormValues() {
+        return form;
+    }
+
+    @Override
+    public Values getHeaderValues() {
+        return headers;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public byte[] getContent() {
+        return content;
+    }
+}
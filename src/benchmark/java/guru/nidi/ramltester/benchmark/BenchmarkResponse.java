@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.model.RamlResponse;
+import guru.nidi.ramltester.model.Values;
+
+/**
+ * A fixed response which does not cost anything to inspect.
+ */
+class BenchmarkResponse implements RamlResponse {
+    private final int status;
+    private final Values headers;
+    private final String contentType;
+    private final byte[] content;
+
+    BenchmarkResponse(int status, String contentType, byte[] content) {
+        this(status, new Values(), contentType, content);
+    }
+
+    BenchmarkResponse(int status, Values headers, String contentType, byte[] content) {
+        this.status = status;
+        this.headers = headers;
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public Values getHeaderValues() {
+        return headers;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public byte[] getContent() {
+        return content;
+    }
+}
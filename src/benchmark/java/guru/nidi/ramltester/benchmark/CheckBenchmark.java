@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.model.Values;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete checks of a request and its response against the RAML files used by the tests:
+ * query parameters, json and xml schemas and url encoded forms.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CheckBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckBenchmark {
+    private static final String BASE_URI = "http://nidi.guru/raml/v1";
+
+    private RamlChecker query;
+    private RamlChecker simple;
+    private RamlChecker form;
+    private BenchmarkRequest queryRequest;
+    private BenchmarkResponse queryResponse;
+    private BenchmarkRequest jsonRequest;
+    private BenchmarkResponse jsonResponse;
+    private BenchmarkRequest xmlRequest;
+    private BenchmarkResponse xmlResponse;
+    private BenchmarkRequest formRequest;
+    private BenchmarkResponse formResponse;
+
+    @Setup
+    public void setup() {
+        final RamlLoaders loaders = RamlLoaders.fromClasspath("guru/nidi/ramltester");
+        query = loaders.load("query.raml").assumingBaseUri(BASE_URI).createTester();
+        simple = loaders.load("simple.raml").assumingBaseUri(BASE_URI).createTester();
+        form = loaders.load("form.raml").assumingBaseUri(BASE_URI).createTester();
+
+        queryRequest = new BenchmarkRequest("GET", "/query",
+                new Values().addValue("req", "a").addValue("rep", "1").addValue("rep", "2").addValue("int", "42"),
+                new Values(), null, null);
+        queryResponse = new BenchmarkResponse(200, "application/json", bytes("\"result\""));
+
+        jsonRequest = new BenchmarkRequest("GET", "/schema");
+        jsonResponse = new BenchmarkResponse(200, "application/json", bytes("{\"s\":\"str\",\"i\":42}"));
+
+        xmlRequest = new BenchmarkRequest("GET", "/schema");
+        xmlResponse = new BenchmarkResponse(208, "text/xml", bytes("<api-request><input>str</input></api-request>"));
+
+        formRequest = new BenchmarkRequest("POST", "/form", new Values(), new Values(),
+                "application/x-www-form-urlencoded", bytes("param=a+value"));
+        formResponse = new BenchmarkResponse(200, null, null);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public RamlReport queryParameters() {
+        return query.check(queryRequest, queryResponse);
+    }
+
+    @Benchmark
+    public RamlReport jsonSchema() {
+        return simple.check(jsonRequest, jsonResponse);
+    }
+
+    @Benchmark
+    public RamlReport xmlSchema() {
+        return simple.check(xmlRequest, xmlResponse);
+    }
+
+    @Benchmark
+    public RamlReport urlEncodedForm() {
+        return form.check(formRequest, formResponse);
+    }
+}
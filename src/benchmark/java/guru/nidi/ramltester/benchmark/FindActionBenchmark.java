@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.RamlChecker;
+import org.openjdk.jmh.annotations.*;
+import org.raml.model.Action;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the action of a request against a raml with a parametrized base uri and protocols,
+ * i.e. the matching of the base uri, the protocol and the base uri parameters.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=FindActionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindActionBenchmark {
+    private RamlChecker checker;
+    private BenchmarkRequest root;
+    private BenchmarkRequest nested;
+
+    @Setup
+    public void setup() throws IOException {
+        final File dir = new File(System.getProperty("java.io.tmpdir"), "raml-find-action-benchmark");
+        dir.mkdirs();
+        final String name = "find-action.raml";
+        writeRaml(new File(dir, name));
+        checker = RamlLoaders.fromFile(dir).load(name).createTester();
+        root = new BenchmarkRequest("GET", "/v1/users");
+        nested = new BenchmarkRequest("GET", "/v1/users/42/orders/7");
+    }
+
+    private void writeRaml(File file) throws IOException {
+        try (final Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write("#%RAML 0.8\n---\ntitle: find action\n"
+                    + "baseUri: http://{env}.example.com/{version}\n"
+                    + "version: v1\n"
+                    + "protocols: [HTTP, HTTPS]\n"
+                    + "baseUriParameters:\n"
+                    + "  env:\n"
+                    + "    enum: [api, test, staging]\n"
+                    + "/users:\n"
+                    + "  get:\n"
+                    + "  /{userId}:\n"
+                    + "    uriParameters:\n"
+                    + "      userId:\n"
+                    + "        type: integer\n"
+                    + "    get:\n"
+                    + "    /orders/{orderId}:\n"
+                    + "      get:\n"
+                    + "        protocols: [HTTPS, HTTP]\n");
+        }
+    }
+
+    @Benchmark
+    public Action rootAction() {
+        return checker.findAction(root);
+    }
+
+    @Benchmark
+    public Action nestedAction() {
+        return checker.findAction(nested);
+    }
+}
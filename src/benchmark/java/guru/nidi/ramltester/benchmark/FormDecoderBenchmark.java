@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.model.Values;
+import guru.nidi.ramltester.util.FormDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding the form parameters of url encoded and multipart requests.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=FormDecoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormDecoderBenchmark {
+    private static final String BOUNDARY = "bEnChMaRk";
+
+    private final FormDecoder decoder = new FormDecoder();
+    private BenchmarkRequest urlEncoded;
+    private BenchmarkRequest multipart;
+
+    @Setup
+    public void setup() {
+        final StringBuilder encoded = new StringBuilder();
+        final StringBuilder parts = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            encoded.append(i == 0 ? "" : "&").append("param").append(i).append("=value+%C3%A4%C3%B6%C3%BC+").append(i);
+            parts.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"param").append(i).append("\"\r\n\r\n")
+                    .append("value ").append(i).append("\r\n");
+        }
+        parts.append("--").append(BOUNDARY).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"file\"; filename=\"data.bin\"\r\n")
+                .append("Content-Type: application/octet-stream\r\n\r\n")
+                .append("0123456789abcdef0123456789abcdef\r\n")
+                .append("--").append(BOUNDARY).append("--\r\n");
+        urlEncoded = new BenchmarkRequest("POST", "/form", new Values(), new Values(),
+                "application/x-www-form-urlencoded; charset=utf-8", encoded.toString().getBytes(StandardCharsets.UTF_8));
+        multipart = new BenchmarkRequest("POST", "/form", new Values(), new Values(),
+                "multipart/form-data; boundary=" + BOUNDARY, parts.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public Values urlEncoded() {
+        return decoder.decode(urlEncoded);
+    }
+
+    @Benchmark
+    public Values multipart() {
+        return decoder.decode(multipart);
+    }
+}
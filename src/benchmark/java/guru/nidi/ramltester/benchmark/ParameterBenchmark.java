@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.model.Values;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking the typed, limited, enumerated and pattern restricted query parameters of type.raml,
+ * once with valid values and once with values violating every parameter.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ParameterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterBenchmark {
+    private RamlChecker checker;
+    private BenchmarkRequest valid;
+    private BenchmarkRequest invalid;
+
+    @Setup
+    public void setup() {
+        checker = RamlLoaders.fromClasspath("guru/nidi/ramltester").load("type.raml")
+                .assumingBaseUri("http://nidi.guru/raml/v1").createTester();
+        valid = request(new Values()
+                .addValue("boolean", "true")
+                .addValue("integer", "123456789")
+                .addValue("number", "1.2345e-11")
+                .addValue("integerLimit", "42")
+                .addValue("numberLimit", "66.6")
+                .addValue("string", "abc")
+                .addValue("date", "Fri, 28 Feb 2014 12:34:56 GMT")
+                .addValue("enum", "a")
+                .addValue("pattern1", "12/a")
+                .addValue("pattern2", "12/a")
+                .addValue("pattern3", "12/A")
+                .addValue("pattern4", "12/A")
+                .addValue("pattern5", "12/A"));
+        invalid = request(new Values()
+                .addValue("boolean", "yes")
+                .addValue("integer", "1.0")
+                .addValue("number", "1.")
+                .addValue("integerLimit", "667")
+                .addValue("numberLimit", "0.01")
+                .addValue("string", "abcdefg")
+                .addValue("date", "Fri, 28 Feb 2014 12:34:56 CET")
+                .addValue("enum", "c")
+                .addValue("pattern1", "12/z")
+                .addValue("pattern2", "1/a")
+                .addValue("pattern3", "12/z")
+                .addValue("pattern4", "1/a")
+                .addValue("pattern5", "12/z"));
+    }
+
+    private BenchmarkRequest request(Values query) {
+        return new BenchmarkRequest("GET", "/type", query, new Values(), null, null);
+    }
+
+    @Benchmark
+    public RamlReport validParameters() {
+        return checker.check(valid);
+    }
+
+    @Benchmark
+    public RamlReport invalidParameters() {
+        return checker.check(invalid);
+    }
+}
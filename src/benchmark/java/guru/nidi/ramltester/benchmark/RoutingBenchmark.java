@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how finding the resource of a request scales with the number of resources in the raml.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RoutingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int resources;
+
+    private RamlChecker checker;
+    private BenchmarkRequest first;
+    private BenchmarkRequest last;
+    private BenchmarkRequest nested;
+
+    @Setup
+    public void setup() throws IOException {
+        final File dir = new File(System.getProperty("java.io.tmpdir"), "raml-routing-benchmark");
+        dir.mkdirs();
+        final String name = "routing-" + resources + ".raml";
+        writeRaml(new File(dir, name));
+        checker = RamlLoaders.fromFile(dir).load(name).assumingBaseUri("http://api.example.com").createTester();
+        first = new BenchmarkRequest("GET", "/res0");
+        last = new BenchmarkRequest("GET", "/res" + (resources - 1));
+        nested = new BenchmarkRequest("GET", "/res" + (resources - 1) + "/42/items/7");
+    }
+
+    private void writeRaml(File file) throws IOException {
+        try (final Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write("#%RAML 0.8\n---\ntitle: routing\nbaseUri: http://api.example.com\n");
+            for (int i = 0; i < resources; i++) {
+                out.write("/res" + i + ":\n"
+                        + "  get:\n"
+                        + "  /{id}:\n"
+                        + "    get:\n"
+                        + "    /items/{itemId}:\n"
+                        + "      get:\n");
+            }
+        }
+    }
+
+    @Benchmark
+    public RamlReport firstResource() {
+        return checker.check(first);
+    }
+
+    @Benchmark
+    public RamlReport lastResource() {
+        return checker.check(last);
+    }
+
+    @Benchmark
+    public RamlReport nestedResource() {
+        return checker.check(nested);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.model.Values;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how checking a response with a json schema scales with the number of security schemes securing the action.
+ * The spec is shaped like global-security.raml: the schemes are applied globally and only define headers.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SecurityBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityBenchmark {
+    private static final String SCHEMA = "{\"type\":\"object\",\"properties\":{"
+            + "\"id\":{\"type\":\"integer\"},"
+            + "\"name\":{\"type\":\"string\",\"maxLength\":100},"
+            + "\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}}},"
+            + "\"required\":[\"id\",\"name\"]}";
+
+    @Param({"1", "3", "5"})
+    private int schemes;
+
+    private RamlChecker checker;
+    private BenchmarkRequest request;
+    private BenchmarkResponse response;
+
+    @Setup
+    public void setup() throws IOException {
+        final File dir = new File(System.getProperty("java.io.tmpdir"), "raml-security-benchmark");
+        dir.mkdirs();
+        final String name = "security-" + schemes + ".raml";
+        writeRaml(new File(dir, name));
+        checker = RamlLoaders.fromFile(dir).load(name).assumingBaseUri("http://api.example.com").createTester();
+        final Values headers = new Values();
+        for (int i = 0; i < schemes; i++) {
+            headers.addValue("X-Auth" + i, "token");
+        }
+        request = new BenchmarkRequest("GET", "/data", new Values(), headers, null, null);
+        final StringBuilder tags = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            tags.append(i == 0 ? "" : ",").append("\"tag").append(i).append('"');
+        }
+        response = new BenchmarkResponse(200, "application/json",
+                ("{\"id\":42,\"name\":\"benchmark\",\"tags\":[" + tags + "]}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeRaml(File file) throws IOException {
+        try (final Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write("#%RAML 0.8\n---\ntitle: security\nbaseUri: http://api.example.com\nsecuritySchemes:\n");
+            final StringBuilder securedBy = new StringBuilder();
+            for (int i = 0; i < schemes; i++) {
+                out.write("  - scheme" + i + ":\n"
+                        + "      type: x-scheme" + i + "\n"
+                        + "      describedBy:\n"
+                        + "        headers:\n"
+                        + "          X-Auth" + i + ":\n"
+                        + "            required: false\n");
+                securedBy.append(i == 0 ? "" : ", ").append("scheme").append(i);
+            }
+            out.write("securedBy: [" + securedBy + "]\n"
+                    + "/data:\n"
+                    + "  get:\n"
+                    + "    responses:\n"
+                    + "      200:\n"
+                    + "        body:\n"
+                    + "          application/json:\n"
+                    + "            schema: '" + SCHEMA + "'\n");
+        }
+    }
+
+    @Benchmark
+    public RamlReport check() {
+        return checker.check(request, response);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the latency of checking a request and its response scales with the size of the spec.
+ * Every invocation checks the next exchange of the traffic created by {@link SpecGenerator}.
+ * The heap retained by the loaded definition is printed when the spec is loaded.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SpecCheckBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecCheckBenchmark {
+    @Param({"100", "1000", "5000"})
+    private int resources;
+
+    @Param({"1", "5"})
+    private int depth;
+
+    @Param({"200"})
+    private int schemas;
+
+    private RamlChecker checker;
+    private SpecGenerator.Exchange[] traffic;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        final File dir = new File(System.getProperty("java.io.tmpdir"), "raml-spec-benchmark");
+        dir.mkdirs();
+        final String name = "spec-" + resources + "-" + depth + "-" + schemas + ".raml";
+        final SpecGenerator generator = new SpecGenerator(resources, depth, schemas, 42);
+        generator.write(new File(dir, name));
+        traffic = generator.traffic(1000);
+
+        final long before = usedHeap();
+        checker = RamlLoaders.fromFile(dir).load(name).createTester();
+        final long after = usedHeap();
+        System.out.printf("%n%d resources, depth %d, %d schemas: definition retains %,d bytes%n",
+                generator.resourceCount(), depth, schemas, after - before);
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    @Benchmark
+    public RamlReport check() {
+        final SpecGenerator.Exchange exchange = traffic[next];
+        next = (next + 1) % traffic.length;
+        return checker.check(exchange.request, exchange.response);
+    }
+}
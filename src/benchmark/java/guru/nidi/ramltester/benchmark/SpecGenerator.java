@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.model.Values;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Generates large RAML 0.8 specs and matching traffic.
+ * The output depends only on the parameters and the seed, so runs with the same parameters are comparable.
+ * <p>
+ * The spec consists of {@code resources / depth} root resources, each with a chain of {@code depth} nested resources
+ * adding one integer uri parameter per level. Every resource has a GET action with typed, enumerated and pattern restricted
+ * query parameters and a json response using one of {@code schemas} named schemas.
+ */
+final class SpecGenerator {
+    private static final String[] FIELD_TYPES = {"string", "integer", "boolean", "number"};
+    private static final String[] QUERY_PARAMETERS = {
+            "limit: {type: integer, minimum: 1, maximum: 100}",
+            "sort: {enum: [asc, desc]}",
+            "q: {type: string, pattern: '^[a-z]+$'}",
+            "from: {type: date}"};
+    private static final String[][] QUERY_VALUES = {
+            {"limit", "42"},
+            {"sort", "desc"},
+            {"q", "benchmark"},
+            {"from", "Fri, 28 Feb 2014 12:34:56 GMT"}};
+
+    private final int roots;
+    private final int depth;
+    private final String[][] schemaFields;
+    private final int[][] queryParameters;
+    private final int[][] responseSchemas;
+    private final long seed;
+
+    static final class Exchange {
+        final BenchmarkRequest request;
+        final BenchmarkResponse response;
+
+        Exchange(BenchmarkRequest request, BenchmarkResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+    }
+
+    SpecGenerator(int resources, int depth, int schemas, long seed) {
+        this.depth = depth;
+        this.seed = seed;
+        roots = Math.max(1, resources / depth);
+        final Random random = new Random(seed);
+        schemaFields = new String[schemas][];
+        for (int i = 0; i < schemas; i++) {
+            schemaFields[i] = new String[2 + random.nextInt(8)];
+            for (int j = 0; j < schemaFields[i].length; j++) {
+                schemaFields[i][j] = FIELD_TYPES[random.nextInt(FIELD_TYPES.length)];
+            }
+        }
+        queryParameters = new int[roots][depth];
+        responseSchemas = new int[roots][depth];
+        for (int i = 0; i < roots; i++) {
+            for (int j = 0; j < depth; j++) {
+                queryParameters[i][j] = 1 + random.nextInt(QUERY_PARAMETERS.length);
+                responseSchemas[i][j] = random.nextInt(schemas);
+            }
+        }
+    }
+
+    int resourceCount() {
+        return roots * depth;
+    }
+
+    void write(File file) throws IOException {
+        try (final Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            out.write("#%RAML 0.8\n---\ntitle: generated\nbaseUri: http://api.example.com\nschemas:\n");
+            for (int i = 0; i < schemaFields.length; i++) {
+                out.write("  - schema" + i + ": |\n      " + schema(schemaFields[i]) + "\n");
+            }
+            for (int i = 0; i < roots; i++) {
+                writeResource(out, i, 0, "");
+            }
+        }
+    }
+
+    private String schema(String[] fields) {
+        final StringBuilder s = new StringBuilder("{\"type\":\"object\",\"properties\":{");
+        for (int i = 0; i < fields.length; i++) {
+            s.append(i == 0 ? "" : ",").append("\"f").append(i).append("\":{\"type\":\"").append(fields[i]).append("\"}");
+        }
+        return s.append("},\"required\":[\"f0\",\"f1\"]}").toString();
+    }
+
+    private void writeResource(Writer out, int root, int level, String indent) throws IOException {
+        if (level == 0) {
+            out.write(indent + "/r" + root + ":\n");
+        } else {
+            out.write(indent + "/{p" + level + "}:\n"
+                    + indent + "  uriParameters:\n"
+                    + indent + "    p" + level + ": {type: integer, minimum: 0}\n");
+        }
+        out.write(indent + "  get:\n"
+                + indent + "    queryParameters:\n");
+        for (int i = 0; i < queryParameters[root][level]; i++) {
+            out.write(indent + "      " + QUERY_PARAMETERS[i] + "\n");
+        }
+        out.write(indent + "    responses:\n"
+                + indent + "      200:\n"
+                + indent + "        body:\n"
+                + indent + "          application/json:\n"
+                + indent + "            schema: schema" + responseSchemas[root][level] + "\n");
+        if (level < depth - 1) {
+            writeResource(out, root, level + 1, indent + "  ");
+        }
+    }
+
+    /**
+     * @return {@code count} valid requests to randomly chosen resources, with their responses
+     */
+    Exchange[] traffic(int count) {
+        final Random random = new Random(seed + 1);
+        final Exchange[] exchanges = new Exchange[count];
+        for (int i = 0; i < count; i++) {
+            final int root = random.nextInt(roots);
+            final int level = random.nextInt(depth);
+            final StringBuilder path = new StringBuilder("/r").append(root);
+            for (int j = 1; j <= level; j++) {
+                path.append('/').append(random.nextInt(10000));
+            }
+            final Values query = new Values();
+            for (int j = 0; j < queryParameters[root][level]; j++) {
+                query.addValue(QUERY_VALUES[j][0], QUERY_VALUES[j][1]);
+            }
+            exchanges[i] = new Exchange(
+                    new BenchmarkRequest("GET", path.toString(), query, new Values(), null, null),
+                    new BenchmarkResponse(200, "application/json", content(schemaFields[responseSchemas[root][level]], random)));
+        }
+        return exchanges;
+    }
+
+    private byte[] content(String[] fields, Random random) {
+        final StringBuilder s = new StringBuilder("{");
+        for (int i = 0; i < fields.length; i++) {
+            s.append(i == 0 ? "" : ",").append("\"f").append(i).append("\":").append(value(fields[i], random));
+        }
+        return s.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String value(String type, Random random) {
+        switch (type) {
+            case "string":
+                return "\"value" + random.nextInt(1000) + "\"";
+            case "integer":
+                return Integer.toString(random.nextInt());
+            case "boolean":
+                return Boolean.toString(random.nextBoolean());
+            default:
+                return Double.toString(random.nextDouble());
+        }
+    }
+}
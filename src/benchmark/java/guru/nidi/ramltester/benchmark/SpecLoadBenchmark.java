@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlDefinition;
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how loading, validating and building the usage of a raml scale with the size of the spec.
+ * The specs are created by {@link SpecGenerator}.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SpecLoadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecLoadBenchmark {
+    @Param({"100", "1000", "5000"})
+    private int resources;
+
+    @Param({"1", "5"})
+    private int depth;
+
+    @Param({"200"})
+    private int schemas;
+
+    private RamlLoaders loaders;
+    private String name;
+    private RamlDefinition definition;
+    private List<RamlReport> reports;
+
+    @Setup
+    public void setup() throws IOException {
+        final File dir = new File(System.getProperty("java.io.tmpdir"), "raml-spec-benchmark");
+        dir.mkdirs();
+        name = "spec-" + resources + "-" + depth + "-" + schemas + ".raml";
+        final SpecGenerator generator = new SpecGenerator(resources, depth, schemas, 42);
+        generator.write(new File(dir, name));
+        loaders = RamlLoaders.fromFile(dir);
+        definition = loaders.load(name);
+        final RamlChecker checker = definition.createTester();
+        reports = new ArrayList<>();
+        for (final SpecGenerator.Exchange exchange : generator.traffic(1000)) {
+            reports.add(checker.check(exchange.request, exchange.response));
+        }
+    }
+
+    @Benchmark
+    public RamlDefinition load() {
+        return loaders.load(name);
+    }
+
+    @Benchmark
+    public RamlReport validate() {
+        return definition.validate();
+    }
+
+    @Benchmark
+    public Usage usage() {
+        return UsageBuilder.usage(definition.getRaml(), reports);
+    }
+}
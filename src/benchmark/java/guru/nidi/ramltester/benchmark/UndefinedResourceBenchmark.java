@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking requests which can not be routed, like the ones of scanners and health probes,
+ * compared to a request to a defined resource.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UndefinedResourceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UndefinedResourceBenchmark {
+    private RamlChecker checker;
+    private BenchmarkRequest defined;
+    private BenchmarkRequest undefinedResource;
+    private BenchmarkRequest undefinedAction;
+    private BenchmarkRequest unmatchedBaseUri;
+
+    @Setup
+    public void setup() throws IOException {
+        final File dir = new File(System.getProperty("java.io.tmpdir"), "raml-undefined-resource-benchmark");
+        dir.mkdirs();
+        final String name = "undefined-resource.raml";
+        writeRaml(new File(dir, name));
+        checker = RamlLoaders.fromFile(dir).load(name).createTester();
+        defined = new BenchmarkRequest("GET", "/v1/users/42");
+        undefinedResource = new BenchmarkRequest("GET", "/v1/wp-login.php");
+        undefinedAction = new BenchmarkRequest("DELETE", "/v1/users/42");
+        unmatchedBaseUri = new BenchmarkRequest("GET", "/health");
+    }
+
+    private void writeRaml(File file) throws IOException {
+        try (final Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write("#%RAML 0.8\n---\ntitle: undefined resource\n"
+                    + "baseUri: http://api.example.com/{version}\n"
+                    + "version: v1\n"
+                    + "/users:\n"
+                    + "  get:\n"
+                    + "  /{userId}:\n"
+                    + "    uriParameters:\n"
+                    + "      userId:\n"
+                    + "        type: integer\n"
+                    + "    get:\n");
+        }
+    }
+
+    @Benchmark
+    public RamlReport definedResource() {
+        return checker.check(defined);
+    }
+
+    @Benchmark
+    public RamlReport undefinedResource() {
+        return checker.check(undefinedResource);
+    }
+
+    @Benchmark
+    public RamlReport undefinedAction() {
+        return checker.check(undefinedAction);
+    }
+
+    @Benchmark
+    public RamlReport unmatchedBaseUri() {
+        return checker.check(unmatchedBaseUri);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.benchmark;
+
+import guru.nidi.ramltester.core.RamlViolations;
+import guru.nidi.ramltester.util.Message;
+import guru.nidi.ramltester.validator.JavaXmlSchemaValidator;
+import org.openjdk.jmh.annotations.*;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.*;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating xml against a schema which is compiled for every validation
+ * with the cached schemas and pooled validators of {@link JavaXmlSchemaValidator}.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=XmlSchemaBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlSchemaBenchmark {
+    private static final String SCHEMA = "<xs:schema attributeFormDefault='unqualified' elementFormDefault='qualified'\n"
+            + "           xmlns:xs='http://www.w3.org/2001/XMLSchema'>\n"
+            + "  <xs:element name='api-request'>\n"
+            + "    <xs:complexType>\n"
+            + "      <xs:sequence>\n"
+            + "        <xs:element type='xs:string' name='input' maxOccurs='unbounded'/>\n"
+            + "      </xs:sequence>\n"
+            + "    </xs:complexType>\n"
+            + "  </xs:element>\n"
+            + "</xs:schema>";
+    private static final String CONTENT = "<api-request><input>a</input><input>b</input><input>c</input></api-request>";
+
+    private final JavaXmlSchemaValidator validator = new JavaXmlSchemaValidator();
+
+    @Benchmark
+    public void compileEveryTime() throws SAXException, IOException {
+        final SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        final Schema schema = schemaFactory.newSchema(new StreamSource(new StringReader(SCHEMA)));
+        schema.newValidator().validate(new StreamSource(new StringReader(CONTENT)));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RamlViolations cachedSingleThread() {
+        return validate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RamlViolations cachedFourThreads() {
+        return validate();
+    }
+
+    private RamlViolations validate() {
+        final RamlViolations violations = new RamlViolations();
+        validator.validate(new StringReader(CONTENT), new StringReader(SCHEMA), violations, new Message("schema.body.mismatch"));
+        return violations;
+    }
+}
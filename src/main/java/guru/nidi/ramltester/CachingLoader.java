@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import guru.nidi.loader.Loader;
+import guru.nidi.ramltester.core.RamlCheckerException;
+import guru.nidi.ramltester.util.IoUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the resources of another loader in memory and optionally in a directory.
+ * It can be used with {@link RamlLoaders#using(Loader)} or {@link RamlLoaders#andUsing(Loader)},
+ * the schema validators then also use the cached resources.
+ * <p>
+ * A cached resource is used without asking the delegate until its time to live has passed.
+ * Then it is revalidated: The delegate is asked for it with {@code ifModifiedSince} set to the time it was loaded,
+ * so loaders that support this (like {@code UrlLoader} with {@code If-Modified-Since}) only transfer changed resources.
+ */
+public class CachingLoader implements Loader {
+    private static final Logger log = LoggerFactory.getLogger(CachingLoader.class);
+    private static final int FORMAT_VERSION = 1;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+    private static final long HTTP_DATE_PRECISION = 1000;
+
+    private final Loader delegate;
+    private final int maxEntries;
+    private final long timeToLive;
+    private final File directory;
+    private final Cache<String, Entry> entries;
+
+    public CachingLoader(Loader delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE, null);
+    }
+
+    /**
+     * @param maxEntries the number of resources kept in memory, the least recently used are evicted first
+     * @param timeToLive the milliseconds a resource is used before it is revalidated, 0 to always revalidate
+     * @param directory  the directory to also store the resources in, so they survive a restart, or null
+     */
+    public CachingLoader(Loader delegate, int maxEntries, long timeToLive, File directory) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.directory = directory;
+        this.entries = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    public CachingLoader maxEntries(int maxEntries) {
+        return new CachingLoader(delegate, maxEntries, timeToLive, directory);
+    }
+
+    public CachingLoader timeToLive(long timeToLive, TimeUnit unit) {
+        return new CachingLoader(delegate, maxEntries, unit.toMillis(timeToLive), directory);
+    }
+
+    public CachingLoader onDisk(File directory) {
+        return new CachingLoader(delegate, maxEntries, timeToLive, directory);
+    }
+
+    @Override
+    public InputStream fetchResource(String name, long ifModifiedSince) {
+        final long now = System.currentTimeMillis();
+        Entry entry = entries.getIfPresent(name);
+        if (entry == null) {
+            entry = readEntry(name);
+            if (entry != null) {
+                entries.put(name, entry);
+            }
+        }
+        if (entry == null || now - entry.validated >= timeToLive) {
+            entry = fetch(name, entry, now);
+        }
+        if (entry == null || ifModifiedSince > 0 && entry.loaded <= ifModifiedSince) {
+            return null;
+        }
+        return new ByteArrayInputStream(entry.data);
+    }
+
+    @Override
+    public String config() {
+        return delegate.config();
+    }
+
+    private Entry fetch(String name, Entry cached, long now) {
+        final InputStream in;
+        try {
+            //HTTP dates have a precision of one second, don't miss a change made in the same second as the last load
+            in = delegate.fetchResource(name, cached == null ? -1 : cached.loaded - HTTP_DATE_PRECISION);
+        } catch (ResourceNotFoundException e) {
+            entries.invalidate(name);
+            if (directory != null && !file(name).delete()) {
+                log.debug("No stored entry for removed resource '{}'", name);
+            }
+            throw e;
+        }
+        if (in == null) {
+            if (cached == null) {
+                return null;
+            }
+            final Entry validated = new Entry(cached.data, cached.loaded, now);
+            entries.put(name, validated);
+            return validated;
+        }
+        try {
+            final Entry loaded = new Entry(IoUtils.readIntoByteArray(in), now, now);
+            entries.put(name, loaded);
+            writeEntry(name, loaded);
+            return loaded;
+        } catch (IOException e) {
+            throw new RamlCheckerException("Could not read resource '" + name + "'", e);
+        }
+    }
+
+    private File file(String name) {
+        return new File(directory, HashingLoader.hash(delegate.config() + "\n" + name) + ".resource");
+    }
+
+    private Entry readEntry(String name) {
+        if (directory == null) {
+            return null;
+        }
+        final File file = file(name);
+        if (!file.exists()) {
+            return null;
+        }
+        try (final DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            final long loaded = in.readLong();
+            final byte[] data = readData(in, file);
+            //the time of the last revalidation is not stored, so it counts from the load
+            return data == null ? null : new Entry(data, loaded, loaded);
+        } catch (IOException e) {
+            log.info("Ignoring unreadable resource cache entry '{}': {}", file, e.toString());
+            return null;
+        }
+    }
+
+    private byte[] readData(DataInputStream in, File file) throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > file.length()) {
+            log.info("Ignoring corrupt resource cache entry '{}'", file);
+            return null;
+        }
+        final byte[] data = new byte[length];
+        in.readFully(data);
+        return data;
+    }
+
+    private void writeEntry(String name, final Entry entry) {
+        if (directory == null) {
+            return;
+        }
+        final File file = file(name);
+        try {
+            new FileReplacer() {
+                @Override
+                protected void write(OutputStream out) throws IOException {
+                    final DataOutputStream data = new DataOutputStream(out);
+                    data.writeInt(FORMAT_VERSION);
+                    data.writeLong(entry.loaded);
+                    data.writeInt(entry.data.length);
+                    data.write(entry.data);
+                    data.flush();
+                }
+            }.replace(file);
+        } catch (IOException e) {
+            log.warn("Could not write resource cache entry '{}'", file, e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] data;
+        private final long loaded;
+        private final long validated;
+
+        Entry(byte[] data, long loaded, long validated) {
+            this.data = data;
+            this.loaded = loaded;
+            this.validated = validated;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.ramltester.core.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread safe aggregator for any number of RamlDefinitions.
+ * In contrast to {@link MultiReportAggregator}, reports are not kept
+ * but folded into an {@link AggregatedUsage} per RAML when they are added.
+ * Optionally, the last reports containing violations are kept as a sample.
+ */
+public class ConcurrentReportAggregator extends UsageReportAggregator<AggregatedUsage> {
+    private final ConcurrentMap<String, AggregatedUsage> aggregates = new ConcurrentHashMap<>();
+    private final int sampleSize;
+    private final Deque<RamlReport> sample = new ArrayDeque<>();
+
+    public ConcurrentReportAggregator() {
+        this(0);
+    }
+
+    public ConcurrentReportAggregator(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public RamlReport addReport(RamlReport report) {
+        if (report != null) {
+            getOrCreateAggregate(report).add(report);
+            if (sampleSize > 0 && !report.isEmpty()) {
+                addSample(report);
+            }
+        }
+        return report;
+    }
+
+    private void addSample(RamlReport report) {
+        synchronized (sample) {
+            if (sample.size() == sampleSize) {
+                sample.removeFirst();
+            }
+            sample.addLast(report);
+        }
+    }
+
+    public AggregatedUsage getAggregate(RamlDefinition definition) {
+        return aggregates.get(definition.getRaml().getTitle());
+    }
+
+    @Override
+    public Usage getUsage(RamlDefinition definition) {
+        final AggregatedUsage aggregate = getAggregate(definition);
+        return aggregate == null
+                ? new AggregatedUsage(definition.getRaml(), 1).getUsage()
+                : aggregate.getUsage();
+    }
+
+    /**
+     * @return the last reports with violations, at most {@code sampleSize} of them.
+     */
+    public List<RamlReport> getSample() {
+        synchronized (sample) {
+            return new ArrayList<>(sample);
+        }
+    }
+
+    @Override
+    protected Map<String, AggregatedUsage> entries() {
+        return aggregates;
+    }
+
+    @Override
+    protected Usage usageOf(AggregatedUsage entry) {
+        return entry.getUsage();
+    }
+
+    @Override
+    public void clear() {
+        aggregates.clear();
+        synchronized (sample) {
+            sample.clear();
+        }
+    }
+
+    private AggregatedUsage getOrCreateAggregate(RamlReport report) {
+        final String title = report.getRaml().getTitle();
+        final AggregatedUsage aggregate = aggregates.get(title);
+        if (aggregate != null) {
+            return aggregate;
+        }
+        final AggregatedUsage created = new AggregatedUsage(report.getRaml());
+        final AggregatedUsage existing = aggregates.putIfAbsent(title, created);
+        return existing == null ? created : existing;
+    }
+}
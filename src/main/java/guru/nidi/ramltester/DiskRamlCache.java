@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.loader.Loader;
+import guru.nidi.loader.use.raml.LoaderRamlResourceLoader;
+import org.raml.model.Raml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores loaded RAMLs in a directory, so they don't have to be parsed again when the JVM is restarted.
+ * Every entry contains the hashes of all resources read while loading the RAML.
+ * An entry is only used if all these resources still have the same content, otherwise the RAML is loaded again.
+ * <p>
+ * The entries are deserialized, so the directory must not be writable by untrusted parties.
+ */
+class DiskRamlCache {
+    private static final Logger log = LoggerFactory.getLogger(DiskRamlCache.class);
+    private static final int FORMAT_VERSION = 1;
+
+    private final Loader loader;
+    private final Loader resourceLoader;
+    private final File directory;
+
+    /**
+     * @param loader         the loader used to name json schema ids
+     * @param resourceLoader the loader to fetch the RAML and its includes
+     * @param directory      the directory to store the entries in
+     */
+    public DiskRamlCache(Loader loader, Loader resourceLoader, File directory) {
+        this.loader = loader;
+        this.resourceLoader = resourceLoader;
+        this.directory = directory;
+    }
+
+    public Raml loadRaml(String name) {
+        final File file = new File(directory, HashingLoader.hash(loader.config() + "\n" + name) + ".raml.gz");
+        final Raml cached = readValid(file);
+        if (cached != null) {
+            return cached;
+        }
+        final HashingLoader hashing = new HashingLoader(resourceLoader);
+        //the builder must get the original loader, it uses its name to make json schema ids
+        final Raml raml = new RelativeJsonSchemaAwareRamlDocumentBuilder(loader, new LoaderRamlResourceLoader(hashing)).build(name);
+        write(file, hashing.getHashes(), raml);
+        return raml;
+    }
+
+    private Raml readValid(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        try (final ObjectInputStream in = new RamlObjectInputStream(new GZIPInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            final Map<String, String> hashes = (Map<String, String>) in.readObject();
+            return HashingLoader.isUnchanged(resourceLoader, hashes) ? (Raml) in.readObject() : null;
+        } catch (IOException e) {
+            return unreadable(file, e);
+        } catch (ClassNotFoundException e) {
+            return unreadable(file, e);
+        } catch (ClassCastException e) {
+            return unreadable(file, e);
+        }
+    }
+
+    private Raml unreadable(File file, Exception e) {
+        log.info("Ignoring unreadable RAML cache entry '{}': {}", file, e.toString());
+        return null;
+    }
+
+    private void write(File file, final Map<String, String> hashes, final Raml raml) {
+        try {
+            new FileReplacer() {
+                @Override
+                protected void write(OutputStream out) throws IOException {
+                    try (final ObjectOutputStream objects = new ObjectOutputStream(new GZIPOutputStream(out))) {
+                        objects.writeInt(FORMAT_VERSION);
+                        objects.writeObject(hashes);
+                        objects.writeObject(raml);
+                    }
+                }
+            }.replace(file);
+        } catch (IOException e) {
+            log.warn("Could not write RAML cache entry '{}'", file, e);
+        }
+    }
+
+    /**
+     * Only deserializes classes of the RAML model and the JDK.
+     */
+    private static class RamlObjectInputStream extends ObjectInputStream {
+        public RamlObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            final String name = desc.getName();
+            if (!name.startsWith("org.raml.") && !name.startsWith("java.") && !name.startsWith("[")) {
+                throw new InvalidClassException(name, "Unexpected class in RAML cache");
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+
+/**
+ * Replaces the content of a file, so that readers see either the old or the new content, never a partially written one.
+ * The content is written to a temp file in the same directory which is then renamed.
+ */
+abstract class FileReplacer {
+    private static final Logger log = LoggerFactory.getLogger(FileReplacer.class);
+
+    public void replace(File file) throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Could not create directory '" + directory + "'");
+        }
+        final File temp = File.createTempFile(file.getName(), ".tmp", directory);
+        try {
+            try (final OutputStream out = new FileOutputStream(temp)) {
+                write(out);
+            }
+            //on some platforms, renameTo does not replace an existing file
+            if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file))) {
+                throw new IOException("Could not rename '" + temp + "' to '" + file + "'");
+            }
+        } finally {
+            if (temp.exists() && !temp.delete()) {
+                log.debug("Could not delete temp file '{}'", temp);
+            }
+        }
+    }
+
+    protected abstract void write(OutputStream out) throws IOException;
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.loader.Loader;
+import guru.nidi.ramltester.core.RamlCheckerException;
+import guru.nidi.ramltester.util.IoUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Remembers the hash of every resource it loads.
+ */
+class HashingLoader implements Loader {
+    private static final Charset UTF_8 = Charset.forName("utf-8");
+
+    private final Loader delegate;
+    private final Map<String, String> hashes = new LinkedHashMap<>();
+
+    public HashingLoader(Loader delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public InputStream fetchResource(String name, long ifModifiedSince) {
+        final InputStream in = delegate.fetchResource(name, ifModifiedSince);
+        if (in == null) {
+            return null;
+        }
+        try (final InputStream res = in) {
+            final byte[] data = IoUtils.readIntoByteArray(res);
+            hashes.put(name, hash(data));
+            return new ByteArrayInputStream(data);
+        } catch (IOException e) {
+            throw new RamlCheckerException("Could not read resource '" + name + "'", e);
+        }
+    }
+
+    @Override
+    public String config() {
+        return delegate.config();
+    }
+
+    /**
+     * @return the hashes of all loaded resources, by name
+     */
+    public Map<String, String> getHashes() {
+        return Collections.unmodifiableMap(hashes);
+    }
+
+    /**
+     * @return if all the given resources can still be loaded and have the given hashes
+     */
+    static boolean isUnchanged(Loader loader, Map<String, String> hashes) {
+        for (final Map.Entry<String, String> entry : hashes.entrySet()) {
+            if (!entry.getValue().equals(currentHash(loader, entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the hash of the resource or null if it cannot be loaded
+     */
+    private static String currentHash(Loader loader, String name) {
+        try (final InputStream in = loader.fetchResource(name, -1)) {
+            return in == null ? null : hash(IoUtils.readIntoByteArray(in));
+        } catch (Loader.ResourceNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static String hash(String s) {
+        return hash(s.getBytes(UTF_8));
+    }
+
+    static String hash(byte[] data) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            final StringBuilder s = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                s.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return s.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is supported by every JVM", e);
+        }
+    }
+}
@@ -22,7 +22,7 @@ import java.util.*;
 /**
  *
  */
-public class MultiReportAggregator implements ReportAggregator {
+public class MultiReportAggregator extends UsageReportAggregator<List<RamlReport>> {
     private final Map<String, List<RamlReport>> reports = new HashMap<>();
 
     @Override
@@ -39,30 +39,23 @@ public class MultiReportAggregator implements ReportAggregator {
         return getOrCreateReports(definition.getRaml().getTitle());
     }
 
+    @Override
     public Usage getUsage(RamlDefinition definition) {
         return UsageBuilder.usage(definition.getRaml(), getReports(definition));
     }
 
-    public UsageProvider usageProvider(final RamlDefinition definition) {
-        return new UsageProvider() {
-            @Override
-            public Usage getUsage() {
-                return MultiReportAggregator.this.getUsage(definition);
-            }
-        };
-    }
-
     public Iterable<Map.Entry<String, List<RamlReport>>> reports() {
         return reports.entrySet();
     }
 
     @Override
-    public Iterable<Map.Entry<String, Usage>> usages() {
-        final Map<String, Usage> res = new HashMap<>();
-        for (final Map.Entry<String, List<RamlReport>> entry : reports.entrySet()) {
-            res.put(entry.getKey(), UsageBuilder.usage(entry.getValue().get(0).getRaml(), entry.getValue()));
-        }
-        return res.entrySet();
+    protected Map<String, List<RamlReport>> entries() {
+        return reports;
+    }
+
+    @Override
+    protected Usage usageOf(List<RamlReport> entry) {
+        return UsageBuilder.usage(entry.get(0).getRaml(), entry);
     }
 
     @Override
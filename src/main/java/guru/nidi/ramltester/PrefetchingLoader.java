@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.loader.Loader;
+import guru.nidi.ramltester.util.IoUtils;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fetches a RAML and everything it includes in parallel, before the parser asks for it.
+ * The parser reads the resources one by one, so without prefetching the time to load a RAML
+ * is the sum of the time to fetch all its resources.
+ * <p>
+ * Includes are found by scanning the text for {@code !include} tags and are resolved
+ * relative to the including resource, as the parser does.
+ * Prefetching is only an optimization: if a resource was not prefetched or prefetching failed,
+ * it is fetched from the delegate when it is needed.
+ */
+class PrefetchingLoader implements Loader, Closeable {
+    private static final Charset UTF_8 = Charset.forName("utf-8");
+    private static final Pattern INCLUDE = Pattern.compile("!include\\s+['\"]?([^\\s'\"#]+)");
+
+    private final Loader delegate;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String, Future<byte[]>> resources = new ConcurrentHashMap<>();
+
+    public PrefetchingLoader(Loader delegate, int threads) {
+        this.delegate = delegate;
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                final Thread thread = new Thread(r, "raml-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Starts fetching the given RAML and everything it includes.
+     */
+    public void prefetch(String name) {
+        submit(name, true);
+    }
+
+    private void submit(final String name, final boolean scan) {
+        final FutureTask<byte[]> task = new FutureTask<>(new Callable<byte[]>() {
+            @Override
+            public byte[] call() throws IOException {
+                final byte[] data;
+                try (final InputStream in = delegate.fetchResource(name, -1)) {
+                    if (in == null) {
+                        return null;
+                    }
+                    data = IoUtils.readIntoByteArray(in);
+                }
+                if (scan) {
+                    for (final String include : includes(name, data)) {
+                        submit(include, isRaml(include));
+                    }
+                }
+                return data;
+            }
+        });
+        if (resources.putIfAbsent(name, task) == null) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                //closed, the resource will be fetched when it's needed
+                resources.remove(name, task);
+            }
+        }
+    }
+
+    private static boolean isRaml(String name) {
+        return name.endsWith(".raml") || name.endsWith(".yaml") || name.endsWith(".yml");
+    }
+
+    static List<String> includes(String name, byte[] data) {
+        final List<String> includes = new ArrayList<>();
+        final Matcher matcher = INCLUDE.matcher(new String(data, UTF_8));
+        while (matcher.find()) {
+            includes.add(resolve(name, matcher.group(1)));
+        }
+        return includes;
+    }
+
+    static String resolve(String base, String include) {
+        if (include.startsWith("/") || include.indexOf(':') >= 0) {
+            return include;
+        }
+        final int pos = base.lastIndexOf('/');
+        return pos < 0 ? include : base.substring(0, pos + 1) + include;
+    }
+
+    /**
+     * Prefetched resources are fetched unconditionally,
+     * so a conditional request is passed on to the delegate.
+     */
+    @Override
+    public InputStream fetchResource(String name, long ifModifiedSince) {
+        final Future<byte[]> prefetched = ifModifiedSince > 0 ? null : resources.get(name);
+        if (prefetched != null) {
+            try {
+                final byte[] data = prefetched.get();
+                if (data != null) {
+                    return new ByteArrayInputStream(data);
+                }
+            } catch (ExecutionException e) {
+                //let the delegate report the problem
+            } catch (CancellationException e) {
+                //closed, fetch it from the delegate
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return delegate.fetchResource(name, ifModifiedSince);
+    }
+
+    @Override
+    public String config() {
+        return delegate.config();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (final Future<byte[]> resource : resources.values()) {
+            resource.cancel(true);
+        }
+    }
+}
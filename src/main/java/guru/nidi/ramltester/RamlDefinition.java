@@ -21,6 +21,7 @@ import guru.nidi.ramltester.jaxrs.CheckingWebTarget;
 import guru.nidi.ramltester.model.RamlRequest;
 import guru.nidi.ramltester.model.RamlResponse;
 import guru.nidi.ramltester.restassured.RestAssuredClient;
+import guru.nidi.ramltester.servlet.AsyncServletTester;
 import guru.nidi.ramltester.servlet.ServletTester;
 import guru.nidi.ramltester.spring.RamlMatcher;
 import guru.nidi.ramltester.spring.RamlRestTemplate;
@@ -85,6 +86,19 @@ public class RamlDefinition {
         return new RamlDefinition(config.failFast(failFast));
     }
 
+    /**
+     * Only the requests accepted by the {@link SamplingPolicy} are checked by the servlet tester and the clients.
+     *
+     * @return {@link RamlDefinition}
+     */
+    public RamlDefinition sampling(SamplingPolicy samplingPolicy) {
+        return new RamlDefinition(config.sampling(samplingPolicy));
+    }
+
+    CheckerConfig config() {
+        return config;
+    }
+
     public Raml getRaml() {
         return config.raml;
     }
@@ -101,6 +115,14 @@ public class RamlDefinition {
         return new ServletTester(createTester()).testAgainst(request, response, chain);
     }
 
+    public AsyncServletTester createAsyncServletTester(ReportAggregator aggregator, int queueSize) {
+        return new AsyncServletTester(createTester(), aggregator, queueSize);
+    }
+
+    public AsyncServletTester createAsyncServletTester(ReportStore reportStore, int threads, int queueSize, AsyncServletTester.DropPolicy dropPolicy) {
+        return new AsyncServletTester(createTester(), reportStore, threads, queueSize, dropPolicy);
+    }
+
     public RamlMatcher matches() {
         return new RamlMatcher(createTester());
     }
@@ -22,23 +22,49 @@ import guru.nidi.loader.url.GithubLoader;
 import guru.nidi.loader.url.UrlLoader;
 import guru.nidi.loader.use.raml.LoaderRamlResourceLoader;
 import guru.nidi.loader.use.raml.RamlCache;
+import guru.nidi.ramltester.core.SchemaPrecompiler;
 import guru.nidi.ramltester.core.SchemaValidator;
 import org.raml.model.Raml;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  *
  */
 public class RamlLoaders {
+    private static final long DEFAULT_POLL_MILLIS = 1000;
+
     private final Loader loader;
     private final SchemaValidators schemaValidators;
     private final boolean caching;
+    private final boolean precompileSchemas;
+    private final File cacheDirectory;
+    private final int prefetchThreads;
+    private final List<File> directories;
 
     public RamlLoaders(Loader loader, SchemaValidators schemaValidators, boolean caching) {
+        this(loader, schemaValidators, caching, false);
+    }
+
+    public RamlLoaders(Loader loader, SchemaValidators schemaValidators, boolean caching, boolean precompileSchemas) {
+        this(loader, schemaValidators, caching, precompileSchemas, null);
+    }
+
+    public RamlLoaders(Loader loader, SchemaValidators schemaValidators, boolean caching, boolean precompileSchemas, File cacheDirectory) {
+        this(loader, schemaValidators, caching, precompileSchemas, cacheDirectory, 0, Collections.<File>emptyList());
+    }
+
+    private RamlLoaders(Loader loader, SchemaValidators schemaValidators, boolean caching, boolean precompileSchemas, File cacheDirectory, int prefetchThreads, List<File> directories) {
         this.loader = loader;
         this.schemaValidators = schemaValidators;
         this.caching = caching;
+        this.precompileSchemas = precompileSchemas;
+        this.cacheDirectory = cacheDirectory;
+        this.prefetchThreads = prefetchThreads;
+        this.directories = directories;
     }
 
     private static Loader classpathLoader(Class<?> basePackage) {
@@ -53,10 +79,6 @@ public class RamlLoaders {
         return new FileLoader(baseDirectory);
     }
 
-    private static Loader fileLoader(String baseDirectory) {
-        return new FileLoader(new File(baseDirectory));
-    }
-
     private static Loader urlLoader(String baseUrl) {
         return new UrlLoader(baseUrl);
     }
@@ -89,11 +111,11 @@ public class RamlLoaders {
     }
 
     public static RamlLoaders fromFile(File baseDirectory) {
-        return using(fileLoader(baseDirectory));
+        return using(fileLoader(baseDirectory)).withDirectory(baseDirectory);
     }
 
     public static RamlLoaders fromFile(String baseDirectory) {
-        return using(fileLoader(baseDirectory));
+        return fromFile(new File(baseDirectory));
     }
 
     public static RamlLoaders fromUrl(String baseUrl) {
@@ -148,11 +170,11 @@ public class RamlLoaders {
     }
 
     public RamlLoaders andFromFile(File baseDirectory) {
-        return andUsing(fileLoader(baseDirectory));
+        return andUsing(fileLoader(baseDirectory)).withDirectory(baseDirectory);
     }
 
     public RamlLoaders andFromFile(String baseDirectory) {
-        return andUsing(fileLoader(baseDirectory));
+        return andFromFile(new File(baseDirectory));
     }
 
     public RamlLoaders andFromUrl(String baseUrl) {
@@ -176,19 +198,110 @@ public class RamlLoaders {
     }
 
     public RamlLoaders andUsing(Loader loader) {
-        return new RamlLoaders(new CompositeLoader(this.loader, loader), schemaValidators, caching);
+        return new RamlLoaders(new CompositeLoader(this.loader, loader), schemaValidators, caching, precompileSchemas, cacheDirectory, prefetchThreads, directories);
     }
 
     public RamlLoaders addSchemaValidator(SchemaValidator schemaValidator) {
-        return new RamlLoaders(loader, schemaValidators.addSchemaValidator(schemaValidator), caching);
+        return new RamlLoaders(loader, schemaValidators.addSchemaValidator(schemaValidator), caching, precompileSchemas, cacheDirectory, prefetchThreads, directories);
+    }
+
+    /**
+     * Compile all schemas while loading, not when they are first used.
+     *
+     * @return {@link RamlLoaders}
+     */
+    public RamlLoaders precompilingSchemas() {
+        return new RamlLoaders(loader, schemaValidators, caching, true, cacheDirectory, prefetchThreads, directories);
+    }
+
+    /**
+     * Store loaded RAMLs in the given directory, so they don't have to be parsed again after a restart.
+     * A stored RAML is only used if none of the resources it was loaded from has changed.
+     * This replaces the in-memory cache of {@link #RamlLoaders(Loader, SchemaValidators, boolean)}:
+     * every load checks the resources and reads the stored RAML, even if the RAML has been loaded before.
+     *
+     * @param directory the directory to store the RAMLs in, it must not be writable by untrusted parties
+     * @return {@link RamlLoaders}
+     */
+    public RamlLoaders cachingOnDisk(File directory) {
+        return new RamlLoaders(loader, schemaValidators, caching, precompileSchemas, directory, prefetchThreads, directories);
+    }
+
+    /**
+     * Fetch the included resources of a RAML in parallel while it is parsed.
+     * It has no effect together with the in-memory cache of {@link #RamlLoaders(Loader, SchemaValidators, boolean)},
+     * as a cached RAML is returned without fetching anything and prefetching would only duplicate the fetches.
+     *
+     * @param threads the maximum number of resources to fetch at the same time
+     * @return {@link RamlLoaders}
+     */
+    public RamlLoaders prefetchingIncludes(int threads) {
+        return new RamlLoaders(loader, schemaValidators, caching, precompileSchemas, cacheDirectory, threads, directories);
+    }
+
+    private RamlLoaders withDirectory(File directory) {
+        final List<File> newDirectories = new ArrayList<>(directories);
+        newDirectories.add(directory);
+        return new RamlLoaders(loader, schemaValidators, caching, precompileSchemas, cacheDirectory, prefetchThreads, newDirectories);
     }
 
     public RamlDefinition load(String name) {
         final Loader decorated = new UriLoader(loader);
-        final Raml raml = caching
-                ? new RamlCache(decorated).loadRaml(name)
-                : new RelativeJsonSchemaAwareRamlDocumentBuilder(decorated, new LoaderRamlResourceLoader(decorated)).build(name);
+        final Raml raml = prefetchThreads > 0 && (cacheDirectory != null || !caching)
+                ? loadRamlPrefetching(decorated, name)
+                : loadRaml(decorated, decorated, name);
+        return definition(decorated, raml);
+    }
+
+    /**
+     * Load a RAML that is loaded again in the background whenever one of its resources changes.
+     * Files from {@link #fromFile(File)} directories are checked for modifications several times a second,
+     * all resources are polled every second.
+     *
+     * @return {@link ReloadableRamlDefinition}, it must be closed to stop watching
+     */
+    public ReloadableRamlDefinition loadReloadable(String name) {
+        return loadReloadable(name, DEFAULT_POLL_MILLIS);
+    }
+
+    /**
+     * Load a RAML that is loaded again in the background whenever one of its resources changes.
+     * Files from {@link #fromFile(File)} directories are checked for modifications several times a second,
+     * all resources are polled.
+     * The RAML is always parsed, the caches and prefetching are not used.
+     *
+     * @param pollMillis the interval to poll the resources
+     * @return {@link ReloadableRamlDefinition}, it must be closed to stop watching
+     */
+    public ReloadableRamlDefinition loadReloadable(String name, long pollMillis) {
+        return new ReloadableRamlDefinition(this, new UriLoader(loader), directories, name, pollMillis).start();
+    }
+
+    RamlDefinition definition(Loader decorated, Raml raml) {
         final SchemaValidators validators = schemaValidators.withloader(decorated);
+        if (precompileSchemas) {
+            new SchemaPrecompiler(raml, validators.getValidators()).precompile();
+        }
         return new RamlDefinition(raml, validators);
     }
+
+    private Raml loadRamlPrefetching(Loader decorated, String name) {
+        try (final PrefetchingLoader prefetching = new PrefetchingLoader(decorated, prefetchThreads)) {
+            prefetching.prefetch(name);
+            return loadRaml(decorated, prefetching, name);
+        }
+    }
+
+    /**
+     * @param decorated      the loader the schema validators use, it's also used to name json schema ids
+     * @param resourceLoader the loader to fetch the RAML and its includes
+     */
+    private Raml loadRaml(Loader decorated, Loader resourceLoader, String name) {
+        if (cacheDirectory != null) {
+            return new DiskRamlCache(decorated, resourceLoader, cacheDirectory).loadRaml(name);
+        }
+        return caching
+                ? new RamlCache(decorated).loadRaml(name)
+                : new RelativeJsonSchemaAwareRamlDocumentBuilder(decorated, new LoaderRamlResourceLoader(resourceLoader)).build(name);
+    }
 }
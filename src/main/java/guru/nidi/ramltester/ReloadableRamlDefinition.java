@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.loader.Loader;
+import guru.nidi.loader.use.raml.LoaderRamlResourceLoader;
+import guru.nidi.ramltester.core.CheckerConfig;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.model.RamlRequest;
+import guru.nidi.ramltester.model.RamlResponse;
+import org.raml.model.Raml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A RAML that is loaded again when one of the resources it was loaded from changes.
+ * Local files are checked for a new modification time or size several times a second,
+ * all resources are polled and compared by their hash.
+ * <p>
+ * The new RAML is loaded in the background and then atomically replaces the old one:
+ * Checks that are running finish against the old RAML, checks that start later use the new one.
+ * If the new RAML cannot be loaded, the old one is kept.
+ */
+public class ReloadableRamlDefinition implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ReloadableRamlDefinition.class);
+    private static final long FILE_CHECK_MILLIS = 100;
+
+    private final RamlLoaders loaders;
+    private final Loader loader;
+    private final List<File> directories;
+    private final String name;
+    private final long pollMillis;
+    private final AtomicReference<CheckerConfig> config;
+    private final Thread thread;
+    private volatile Map<String, String> sources = new HashMap<>();
+    private volatile List<FileState> files = new ArrayList<>();
+
+    /**
+     * @param loaders     the options to load the RAML with
+     * @param loader      the loader of the RAML
+     * @param directories the directories local files can be in
+     */
+    ReloadableRamlDefinition(RamlLoaders loaders, Loader loader, List<File> directories, String name, long pollMillis) {
+        this.loaders = loaders;
+        this.loader = loader;
+        this.directories = directories;
+        this.name = name;
+        this.pollMillis = pollMillis;
+        config = new AtomicReference<>(load(null));
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                watch();
+            }
+        }, "raml-reload");
+        thread.setDaemon(true);
+    }
+
+    ReloadableRamlDefinition start() {
+        thread.start();
+        return this;
+    }
+
+    /**
+     * @return the currently loaded RAML, it does not change when the RAML is reloaded
+     */
+    public RamlDefinition getDefinition() {
+        return new RamlDefinition(config.get());
+    }
+
+    /**
+     * Use the options (base uri, x-headers, fail fast, sampling,...) of the given definition
+     * for the current and all reloaded RAMLs.
+     * E.g. {@code reloadable.configure(reloadable.getDefinition().assumingBaseUri("http://server"))}
+     */
+    public synchronized void configure(RamlDefinition options) {
+        final CheckerConfig current = config.get();
+        config.set(options.config().withRaml(current.raml, current.schemaValidators));
+    }
+
+    /**
+     * @return a tester that always checks against the most recently loaded RAML
+     */
+    public RamlChecker createTester() {
+        return new RamlChecker(config);
+    }
+
+    public RamlReport testAgainst(RamlRequest request, RamlResponse response) {
+        return createTester().check(request, response);
+    }
+
+    /**
+     * Load the RAML again and replace the current one.
+     *
+     * @return if the RAML could be loaded, if not, the current one is kept
+     */
+    public synchronized boolean reload() {
+        try {
+            config.set(load(config.get()));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Could not reload RAML '{}', keeping the current one", name, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        thread.interrupt();
+    }
+
+    private CheckerConfig load(CheckerConfig current) {
+        final HashingLoader hashing = new HashingLoader(loader);
+        try {
+            final Raml raml = new RelativeJsonSchemaAwareRamlDocumentBuilder(loader, new LoaderRamlResourceLoader(hashing)).build(name);
+            final CheckerConfig loaded = loaders.definition(loader, raml).config();
+            setSources(hashing.getHashes());
+            return current == null ? loaded : current.withRaml(loaded.raml, loaded.schemaValidators);
+        } catch (RuntimeException e) {
+            //also watch the resources of the failed attempt, so a fix in one of them is noticed
+            final Map<String, String> merged = new HashMap<>(sources);
+            merged.putAll(hashing.getHashes());
+            setSources(merged);
+            throw e;
+        }
+    }
+
+    private void setSources(Map<String, String> hashes) {
+        final List<FileState> newFiles = new ArrayList<>();
+        for (final String resource : hashes.keySet()) {
+            final File file = localFile(resource);
+            if (file != null) {
+                newFiles.add(new FileState(file));
+            }
+        }
+        sources = hashes;
+        files = newFiles;
+    }
+
+    private File localFile(String resource) {
+        if (resource.startsWith("file://")) {
+            return existing(new File(resource.substring(7)));
+        }
+        for (final File directory : directories) {
+            final File file = existing(new File(directory, resource));
+            if (file != null) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    private static File existing(File file) {
+        return file.isFile() ? file.getAbsoluteFile() : null;
+    }
+
+    private void watch() {
+        long nextPoll = System.currentTimeMillis() + pollMillis;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(Math.max(1, Math.min(FILE_CHECK_MILLIS, nextPoll - System.currentTimeMillis())));
+            } catch (InterruptedException e) {
+                //closed
+                return;
+            }
+            final boolean pollNow = System.currentTimeMillis() >= nextPoll;
+            if (pollNow) {
+                nextPoll = System.currentTimeMillis() + pollMillis;
+            }
+            reloadIfChanged(pollNow);
+        }
+    }
+
+    /**
+     * A failing loader must not stop the watching thread, the next poll tries again.
+     * The hashes are also compared for files, as a change within the precision of the modification time
+     * that keeps the size is not seen by the file check.
+     */
+    private void reloadIfChanged(boolean pollNow) {
+        try {
+            if (filesChanged() || (pollNow && !HashingLoader.isUnchanged(loader, sources))) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not check RAML '{}' for changes", name, e);
+        }
+    }
+
+    private boolean filesChanged() {
+        for (final FileState file : files) {
+            if (file.changed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class FileState {
+        private final File file;
+        private final long lastModified;
+        private final long length;
+
+        FileState(File file) {
+            this.file = file;
+            lastModified = file.lastModified();
+            length = file.length();
+        }
+
+        boolean changed() {
+            return file.lastModified() != lastModified || file.length() != length;
+        }
+    }
+}
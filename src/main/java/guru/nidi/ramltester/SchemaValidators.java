@@ -37,7 +37,7 @@ public final class SchemaValidators {
     }
 
     public static SchemaValidators standard() {
-        return new SchemaValidators(Arrays.asList(new JsonSchemaValidator(), new JavaXmlSchemaValidator()));
+        return new SchemaValidators(Arrays.<SchemaValidator>asList(new JsonSchemaValidator(), new JavaXmlSchemaValidator()));
     }
 
     public SchemaValidators addSchemaValidator(SchemaValidator schemaValidator) {
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.ramltester.core.ReportAggregator;
+import guru.nidi.ramltester.core.Usage;
+import guru.nidi.ramltester.core.UsageProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base for aggregators that keep their data per RAML title.
+ *
+ * @param <T> the data kept per RAML
+ */
+abstract class UsageReportAggregator<T> implements ReportAggregator {
+    public abstract Usage getUsage(RamlDefinition definition);
+
+    public UsageProvider usageProvider(final RamlDefinition definition) {
+        return new UsageProvider() {
+            @Override
+            public Usage getUsage() {
+                return UsageReportAggregator.this.getUsage(definition);
+            }
+        };
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, Usage>> usages() {
+        final Map<String, Usage> res = new HashMap<>();
+        for (final Map.Entry<String, T> entry : entries().entrySet()) {
+            res.put(entry.getKey(), usageOf(entry.getValue()));
+        }
+        return res.entrySet();
+    }
+
+    protected abstract Map<String, T> entries();
+
+    protected abstract Usage usageOf(T entry);
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import org.raml.model.Raml;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The usage and violation counts of any number of reports of one RAML.
+ * Reports are folded in when they are added, so memory and the cost of {@link #getUsage()}
+ * depend on the size of the RAML, not on the number of reports.
+ * To keep contention low, concurrently added reports are distributed over several stripes.
+ */
+public class AggregatedUsage implements UsageProvider {
+    private final Raml raml;
+    private final Stripe[] stripes;
+    private final AtomicLong reports = new AtomicLong();
+    private final AtomicLong requestViolations = new AtomicLong();
+    private final AtomicLong responseViolations = new AtomicLong();
+    private final AtomicLong validationViolations = new AtomicLong();
+
+    public AggregatedUsage(Raml raml) {
+        this(raml, Runtime.getRuntime().availableProcessors());
+    }
+
+    public AggregatedUsage(Raml raml, int stripes) {
+        this.raml = raml;
+        this.stripes = new Stripe[Math.max(1, stripes)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    public void add(RamlReport report) {
+        final Stripe stripe = stripes[(int) (Thread.currentThread().getId() % stripes.length)];
+        synchronized (stripe) {
+            stripe.usage.add(report.getUsage());
+        }
+        reports.incrementAndGet();
+        requestViolations.addAndGet(report.getRequestViolations().size());
+        responseViolations.addAndGet(report.getResponseViolations().size());
+        validationViolations.addAndGet(report.getValidationViolations().size());
+    }
+
+    @Override
+    public Usage getUsage() {
+        final Usage usage = UsageBuilder.totalUsage(raml);
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                usage.add(stripe.usage);
+            }
+        }
+        return usage;
+    }
+
+    public Raml getRaml() {
+        return raml;
+    }
+
+    public long getReports() {
+        return reports.get();
+    }
+
+    public long getRequestViolations() {
+        return requestViolations.get();
+    }
+
+    public long getResponseViolations() {
+        return responseViolations.get();
+    }
+
+    public long getValidationViolations() {
+        return validationViolations.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AggregatedUsage{" +
+                "reports=" + reports +
+                ", requestViolations=" + requestViolations +
+                ", responseViolations=" + responseViolations +
+                ", validationViolations=" + validationViolations +
+                '}';
+    }
+
+    private static final class Stripe {
+        private final Usage usage = new Usage();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.*;
+import org.raml.model.MimeType;
+
+import java.util.*;
+
+/**
+ * The bodies of a request or response definition with their parsed media types.
+ */
+final class BodyTypes {
+    private final Map<String, MimeType> bodies;
+    private final Map<MediaType, MimeType> types;
+    private final Map<String, String> illegalTypes;
+
+    private BodyTypes(Map<String, MimeType> bodies) {
+        this.bodies = bodies;
+        final Map<MediaType, MimeType> parsed = new LinkedHashMap<>();
+        final Map<String, String> illegal = new LinkedHashMap<>();
+        if (bodies != null) {
+            for (final Map.Entry<String, MimeType> entry : bodies.entrySet()) {
+                try {
+                    parsed.put(MediaType.valueOf(entry.getKey()), entry.getValue());
+                } catch (InvalidMediaTypeException e) {
+                    illegal.put(entry.getKey(), e.getMessage());
+                }
+            }
+        }
+        types = Collections.unmodifiableMap(parsed);
+        illegalTypes = illegal;
+    }
+
+    static BodyTypes forBodies(Map<String, MimeType> bodies) {
+        return new BodyTypes(bodies);
+    }
+
+    public Map<String, MimeType> getBodies() {
+        return bodies;
+    }
+
+    public Map<MediaType, MimeType> getTypes() {
+        return types;
+    }
+
+    public void addIllegalTypeViolations(RamlViolations violations, Locator locator) {
+        for (final Map.Entry<String, String> entry : illegalTypes.entrySet()) {
+            violations.add(new Message("mediaType.illegal", locator, entry.getKey(), entry.getValue()));
+        }
+    }
+}
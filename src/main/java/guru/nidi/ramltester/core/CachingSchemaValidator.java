@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import java.io.Reader;
+
+/**
+ * A {@link SchemaValidator} which keeps the compiled form of the schemas it has seen.
+ */
+public interface CachingSchemaValidator extends SchemaValidator {
+    /**
+     * Compile the schema and put it into the cache.
+     * Invalid schemas are ignored, they are reported when used by {@link #validate}.
+     */
+    void precompile(Reader schema);
+
+    SchemaCache<?> getSchemaCache();
+}
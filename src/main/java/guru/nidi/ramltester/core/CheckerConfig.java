@@ -29,26 +29,34 @@ public class CheckerConfig {
     public final boolean includeServletPath;
     public final boolean ignoreXheaders;
     public final boolean failFast;
+    public final SamplingPolicy samplingPolicy;
+    final PreparedRaml prepared;
 
     public CheckerConfig(Raml raml, List<SchemaValidator> schemaValidators) {
         this(raml, schemaValidators, null, false, false, false);
     }
 
     public CheckerConfig(Raml raml, List<SchemaValidator> schemaValidators, String baseUri, boolean includeServletPath, boolean ignoreXheaders, boolean failFast) {
+        this(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, SamplingPolicy.all(), new PreparedRaml(raml));
+    }
+
+    private CheckerConfig(Raml raml, List<SchemaValidator> schemaValidators, String baseUri, boolean includeServletPath, boolean ignoreXheaders, boolean failFast, SamplingPolicy samplingPolicy, PreparedRaml prepared) {
         this.raml = raml;
         this.schemaValidators = schemaValidators;
         this.baseUri = baseUri;
         this.includeServletPath = includeServletPath;
         this.ignoreXheaders = ignoreXheaders;
         this.failFast = failFast;
+        this.samplingPolicy = samplingPolicy;
+        this.prepared = prepared;
     }
 
     public CheckerConfig assumingBaseUri(String baseUri) {
-        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast);
+        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, samplingPolicy, prepared);
     }
 
     public CheckerConfig assumingBaseUri(String baseUri, boolean includeServletPath) {
-        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast);
+        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, samplingPolicy, prepared);
     }
 
     public CheckerConfig ignoringXheaders() {
@@ -56,7 +64,7 @@ public class CheckerConfig {
     }
 
     public CheckerConfig ignoringXheaders(boolean ignoreXheaders) {
-        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast);
+        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, samplingPolicy, prepared);
     }
 
     public CheckerConfig includeServletPath() {
@@ -64,7 +72,7 @@ public class CheckerConfig {
     }
 
     public CheckerConfig includeServletPath(boolean includeServletPath) {
-        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast);
+        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, samplingPolicy, prepared);
     }
 
     public CheckerConfig failFast() {
@@ -72,6 +80,17 @@ public class CheckerConfig {
     }
 
     public CheckerConfig failFast(boolean failFast) {
-        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast);
+        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, samplingPolicy, prepared);
+    }
+
+    public CheckerConfig sampling(SamplingPolicy samplingPolicy) {
+        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, samplingPolicy, prepared);
+    }
+
+    /**
+     * The same options, but for another RAML.
+     */
+    public CheckerConfig withRaml(Raml raml, List<SchemaValidator> schemaValidators) {
+        return new CheckerConfig(raml, schemaValidators, baseUri, includeServletPath, ignoreXheaders, failFast, samplingPolicy, new PreparedRaml(raml));
     }
 }
@@ -16,7 +16,6 @@
 package guru.nidi.ramltester.core;
 
 import guru.nidi.ramltester.model.RamlMessage;
-import guru.nidi.ramltester.model.Values;
 import guru.nidi.ramltester.util.MediaType;
 import guru.nidi.ramltester.util.Message;
 import org.raml.model.*;
@@ -71,43 +70,6 @@ final class CheckerHelper {
         return null;
     }
 
-    public static List<ResourceMatch> findResource(String resourcePath, Map<String, Resource> resources, Values values) {
-        final List<ResourceMatch> matches = new ArrayList<>();
-        for (final Map.Entry<String, Resource> entry : resources.entrySet()) {
-            final VariableMatcher pathMatch = VariableMatcher.match(entry.getKey(), resourcePath);
-            if (pathMatch.isCompleteMatch() || (pathMatch.isMatch() && pathMatch.getSuffix().startsWith("/"))) {
-                matches.add(new ResourceMatch(pathMatch, entry.getValue()));
-            }
-        }
-        Collections.sort(matches);
-        final List<ResourceMatch> found = new ArrayList<>();
-        for (final ResourceMatch match : matches) {
-            if (match.match.isCompleteMatch()) {
-                values.addValues(match.match.getVariables());
-                found.add(match);
-            } else if (match.match.isMatch()) {
-                values.addValues(match.match.getVariables());
-                found.addAll(findResource(match.match.getSuffix(), match.resource.getResources(), values));
-            }
-        }
-        return found;
-    }
-
-    public static final class ResourceMatch implements Comparable<ResourceMatch> {
-        final VariableMatcher match;
-        final Resource resource;
-
-        public ResourceMatch(VariableMatcher match, Resource resource) {
-            this.match = match;
-            this.resource = resource;
-        }
-
-        @Override
-        public int compareTo(ResourceMatch o) {
-            return match.getVariables().size() - o.match.getVariables().size();
-        }
-    }
-
     public static SchemaValidator findSchemaValidator(List<SchemaValidator> validators, MediaType mediaType) {
         for (final SchemaValidator validator : validators) {
             if (validator.supports(mediaType)) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.*;
+import org.raml.model.*;
+
+import java.util.Map;
+
+/**
+ * Tells if the content of request and response is needed to check an action.
+ * It is only needed if a body has a schema or form parameters.
+ */
+public final class ContentCapture {
+    public static final ContentCapture ALL = new ContentCapture(true, true);
+    public static final ContentCapture NONE = new ContentCapture(false, false);
+
+    public final boolean request;
+    public final boolean response;
+
+    private ContentCapture(boolean request, boolean response) {
+        this.request = request;
+        this.response = response;
+    }
+
+    static ContentCapture forAction(Action action, SecurityExtractor security) {
+        final boolean request = needsRequestContent(action.getBody());
+        boolean response = needsResponseContent(action.getResponses());
+        for (final SecurityScheme scheme : security.getSchemes()) {
+            response |= needsResponseContent(security.responses(scheme));
+        }
+        return capture(request, response);
+    }
+
+    private static ContentCapture capture(boolean request, boolean response) {
+        if (request && response) {
+            return ALL;
+        }
+        if (!request && !response) {
+            return NONE;
+        }
+        return new ContentCapture(request, response);
+    }
+
+    private static boolean needsRequestContent(Map<String, MimeType> bodies) {
+        if (bodies == null) {
+            return false;
+        }
+        for (final Map.Entry<String, MimeType> body : bodies.entrySet()) {
+            final MimeType mimeType = body.getValue();
+            if (mimeType.getSchema() != null || (mimeType.getFormParameters() != null && !mimeType.getFormParameters().isEmpty())) {
+                return true;
+            }
+            if (body.getKey() != null) {
+                try {
+                    if (FormDecoder.supportsFormParameters(MediaType.valueOf(body.getKey()))) {
+                        return true;
+                    }
+                } catch (InvalidMediaTypeException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean needsResponseContent(Map<String, Response> responses) {
+        if (responses == null) {
+            return false;
+        }
+        for (final Response response : responses.values()) {
+            if (response.getBody() != null) {
+                for (final MimeType mimeType : response.getBody().values()) {
+                    if (mimeType.getSchema() != null) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ContentCapture{" +
+                "request=" + request +
+                ", response=" + response +
+                '}';
+    }
+}
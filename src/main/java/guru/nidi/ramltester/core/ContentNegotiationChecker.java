@@ -15,6 +15,8 @@
  */
 package guru.nidi.ramltester.core;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import guru.nidi.ramltester.model.RamlRequest;
 import guru.nidi.ramltester.model.RamlResponse;
 import guru.nidi.ramltester.util.*;
@@ -26,6 +28,9 @@ import java.util.*;
  *
  */
 class ContentNegotiationChecker {
+    //only accept headers without illegal media types are cached, the others must report their violations every time
+    private static final Cache<String, List<MediaType>> ACCEPT_CACHE = CacheBuilder.newBuilder().maximumSize(1000).build();
+
     private final RamlViolations requestViolations, responseViolations;
 
     public ContentNegotiationChecker(RamlViolations requestViolations, RamlViolations responseViolations) {
@@ -76,16 +81,25 @@ class ContentNegotiationChecker {
     }
 
     private List<MediaType> acceptMediaTypes(String accept) {
+        final List<MediaType> cached = ACCEPT_CACHE.getIfPresent(accept);
+        if (cached != null) {
+            return cached;
+        }
         final List<MediaType> acceptTypes = new ArrayList<>();
+        boolean allLegal = true;
         for (final String type : accept.split(",")) {
             try {
                 final MediaType acceptType = MediaType.valueOf(type);
                 acceptTypes.add(acceptType);
             } catch (InvalidMediaTypeException e) {
                 requestViolations.add(new Message("mediaType.illegal", new Message("accept.header"), type, e.getMessage()));
+                allLegal = false;
             }
         }
         Collections.sort(acceptTypes, MediaType.QUALITY_COMPARATOR);
+        if (allLegal) {
+            ACCEPT_CACHE.put(accept, Collections.unmodifiableList(acceptTypes));
+        }
         return acceptTypes;
     }
 
@@ -17,7 +17,16 @@ package guru.nidi.ramltester.core;
 
 
 import javax.script.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
+/**
+ * Evaluates javascript regexes.
+ * They are translated into java patterns, a javascript engine is only used for regexes which cannot be translated.
+ * Compiled regexes are cached by their raw form.
+ */
 final class JsRegex {
     private static final String MATCHES_IN_JS
             = "var matches = function(input, re, flags){"
@@ -25,7 +34,8 @@ final class JsRegex {
             + "    return r.test(input);"
             + "};";
 
-    private static final ScriptEngine ENGINE;
+    private static final ConcurrentMap<String, Regex> CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Regex> FLAGGED_CACHE = new ConcurrentHashMap<>();
 
     public static class InvalidRegexException extends RuntimeException {
         public InvalidRegexException(String message, Throwable cause) {
@@ -36,16 +46,37 @@ final class JsRegex {
     private JsRegex() {
     }
 
-    static {
-        try {
-            ENGINE = new ScriptEngineManager().getEngineByExtension("js");
-            ENGINE.eval(MATCHES_IN_JS);
-        } catch (ScriptException e) {
-            throw new AssertionError(e);
+    public static boolean matches(String input, String regex) {
+        return regex(regex).matches(input);
+    }
+
+    static Regex regex(String regex) {
+        Regex compiled = CACHE.get(regex);
+        if (compiled == null) {
+            compiled = cache(CACHE, regex, parse(regex));
         }
+        return compiled;
     }
 
-    public static boolean matches(String input, String regex) {
+    public static boolean matches(String input, String regex, String flags) {
+        final String key = (flags == null ? "" : flags) + "/" + regex;
+        Regex compiled = FLAGGED_CACHE.get(key);
+        if (compiled == null) {
+            compiled = compile(regex, flags);
+            //valid flags never contain a slash, so only valid regexes have an unambiguous key
+            if (!(compiled instanceof InvalidRegex)) {
+                compiled = cache(FLAGGED_CACHE, key, compiled);
+            }
+        }
+        return compiled.matches(input);
+    }
+
+    private static Regex cache(ConcurrentMap<String, Regex> cache, String key, Regex regex) {
+        final Regex previous = cache.putIfAbsent(key, regex);
+        return previous == null ? regex : previous;
+    }
+
+    private static Regex parse(String regex) {
         final String unquoted = (isDoubleQuoted(regex) || isSingleQuoted(regex))
                 ? regex.substring(1, regex.length() - 1)
                 : regex;
@@ -54,22 +85,50 @@ final class JsRegex {
             if (pos >= unquoted.length() - 3) {
                 final String flags = pos == unquoted.length() - 1 ? "" : unquoted.substring(pos + 1);
                 final String unslashed = unquoted.substring(1, pos).replace("\\/", "/");
-                return matches(input, unslashed, flags);
+                return compile(unslashed, flags);
             }
         }
-        return matches(input, unquoted, null);
+        return compile(unquoted, null);
     }
 
-    public static boolean matches(String input, String regex, String flags) {
+    private static Regex compile(String regex, String flags) {
         try {
-            return (boolean) ((Invocable) ENGINE).invokeFunction("matches", input, regex, flags);
-        } catch (Exception e) {
-            Throwable t = e;
-            while (t.getMessage() == null && t.getCause() != null) {
-                t = t.getCause();
+            return translate(regex, flags);
+        } catch (InvalidRegexException e) {
+            return new InvalidRegex(e);
+        } catch (PatternSyntaxException e) {
+            return ScriptRegex.create(regex, flags, e);
+        }
+    }
+
+    private static Regex translate(String regex, String flags) {
+        boolean ignoreCase = false, multiline = false, global = false;
+        if (flags != null) {
+            for (final char flag : flags.toCharArray()) {
+                final boolean repeated;
+                switch (flag) {
+                    case 'g':
+                        repeated = global;
+                        global = true;
+                        break;
+                    case 'i':
+                        repeated = ignoreCase;
+                        ignoreCase = true;
+                        break;
+                    case 'm':
+                        repeated = multiline;
+                        multiline = true;
+                        break;
+                    default:
+                        throw new InvalidRegexException("Unsupported RegExp flag: " + flag, null);
+                }
+                if (repeated) {
+                    throw new InvalidRegexException("Repeated RegExp flag: " + flag, null);
+                }
             }
-            throw new InvalidRegexException(t.getMessage(), t);
         }
+        final String translated = JsRegexTranslator.translate(regex, multiline);
+        return new PatternRegex(Pattern.compile(translated, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0));
     }
 
     private static boolean isDoubleQuoted(String regex) {
@@ -79,4 +138,85 @@ final class JsRegex {
     private static boolean isSingleQuoted(String regex) {
         return regex.startsWith("'") && regex.endsWith("'");
     }
+
+    abstract static class Regex {
+        abstract boolean matches(String input);
+    }
+
+    private static final class PatternRegex extends Regex {
+        private final Pattern pattern;
+
+        PatternRegex(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean matches(String input) {
+            return pattern.matcher(input).find();
+        }
+    }
+
+    private static final class InvalidRegex extends Regex {
+        private final InvalidRegexException exception;
+
+        InvalidRegex(InvalidRegexException exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        boolean matches(String input) {
+            throw new InvalidRegexException(exception.getMessage(), exception.getCause());
+        }
+    }
+
+    private static final class ScriptRegex extends Regex {
+        private static final ScriptEngine ENGINE = createEngine();
+
+        private final String regex;
+        private final String flags;
+
+        private ScriptRegex(String regex, String flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        static Regex create(String regex, String flags, Exception translationError) {
+            if (ENGINE == null) {
+                return new InvalidRegex(new InvalidRegexException(translationError.getMessage(), translationError));
+            }
+            final ScriptRegex scriptRegex = new ScriptRegex(regex, flags);
+            try {
+                scriptRegex.matches("");
+                return scriptRegex;
+            } catch (InvalidRegexException e) {
+                return new InvalidRegex(e);
+            }
+        }
+
+        private static ScriptEngine createEngine() {
+            final ScriptEngine engine = new ScriptEngineManager().getEngineByExtension("js");
+            if (engine == null) {
+                return null;
+            }
+            try {
+                engine.eval(MATCHES_IN_JS);
+                return engine;
+            } catch (ScriptException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        boolean matches(String input) {
+            try {
+                return (boolean) ((Invocable) ENGINE).invokeFunction("matches", input, regex, flags);
+            } catch (Exception e) {
+                Throwable t = e;
+                while (t.getMessage() == null && t.getCause() != null) {
+                    t = t.getCause();
+                }
+                throw new InvalidRegexException(t.getMessage(), t);
+            }
+        }
+    }
 }
@@ -0,0 +1,429 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import java.util.regex.Pattern;
+
+/**
+ * Translates an ECMAScript regular expression into an equivalent {@link java.util.regex.Pattern}.
+ * Constructs with a different meaning in java ($, ., \s, \b, \v, \cX, octal escapes, identity escapes,
+ * literal braces and brackets) are rewritten.
+ * A difference remains: In java, a back reference to a group which did not participate in the match fails,
+ * in javascript it matches the empty string.
+ */
+final class JsRegexTranslator {
+    private static final String WHITESPACE = "\\s\\u00a0\\u1680\\u2000-\\u200a\\u2028\\u2029\\u202f\\u205f\\u3000\\ufeff";
+    private static final String LINE_TERMINATOR = "[\\n\\r\\u2028\\u2029]";
+    private static final String WORD_BOUNDARY = "(?:(?<=\\w)(?!\\w)|(?<!\\w)(?=\\w))";
+    private static final Pattern NAMED_GROUP = Pattern.compile("\\(\\?<[^=!]");
+    private static final String NON_WORD_BOUNDARY = "(?:(?<=\\w)(?=\\w)|(?<!\\w)(?!\\w))";
+
+    private final String regex;
+    private final boolean multiline;
+    private final int groups;
+    private final boolean namedGroups;
+    private int pos;
+
+    private JsRegexTranslator(String regex, boolean multiline) {
+        this.regex = regex;
+        this.multiline = multiline;
+        this.groups = countGroups(regex);
+        this.namedGroups = NAMED_GROUP.matcher(regex).find();
+    }
+
+    /**
+     * @throws JsRegex.InvalidRegexException if the regex is not a valid ECMAScript regex
+     */
+    static String translate(String regex, boolean multiline) {
+        return new JsRegexTranslator(regex, multiline).translate();
+    }
+
+    private String translate() {
+        final StringBuilder out = new StringBuilder();
+        while (pos < regex.length()) {
+            final char c = regex.charAt(pos++);
+            switch (c) {
+                case '\\':
+                    escape(out);
+                    break;
+                case '[':
+                    characterClass(out);
+                    break;
+                case '(':
+                    group(out);
+                    break;
+                case '{':
+                    brace(out);
+                    break;
+                case '}':
+                case ']':
+                    out.append('\\').append(c);
+                    break;
+                case '.':
+                    out.append("[^\\n\\r\\u2028\\u2029]");
+                    break;
+                case '^':
+                    out.append(multiline ? "(?:^|(?<=" + LINE_TERMINATOR + "))" : "^");
+                    break;
+                case '$':
+                    out.append(multiline ? "(?=" + LINE_TERMINATOR + "|\\z)" : "\\z");
+                    break;
+                case '*':
+                case '+':
+                case '?':
+                    out.append(c);
+                    quantifierSuffix(out);
+                    break;
+                default:
+                    out.append(c);
+                    break;
+            }
+        }
+        return out.toString();
+    }
+
+    private void group(StringBuilder out) {
+        out.append('(');
+        if (peek() != '?') {
+            return;
+        }
+        final char next = peek(1);
+        final char afterNext = peek(2);
+        if (next == ':' || next == '=' || next == '!' || (next == '<' && afterNext != 0)) {
+            out.append('?');
+            pos++;
+        } else {
+            throw invalid("Invalid group");
+        }
+    }
+
+    private void brace(StringBuilder out) {
+        final int end = braceQuantifierEnd(pos);
+        if (end < 0) {
+            out.append("\\{");
+        } else {
+            out.append('{').append(regex, pos, end + 1);
+            pos = end + 1;
+            quantifierSuffix(out);
+        }
+    }
+
+    /**
+     * @return the index of the closing brace if a quantifier like {n}, {n,} or {n,m} starts after the opening brace, -1 otherwise
+     */
+    private int braceQuantifierEnd(int start) {
+        int end = digitsEnd(start);
+        if (end == start) {
+            return -1;
+        }
+        if (end < regex.length() && regex.charAt(end) == ',') {
+            end = digitsEnd(end + 1);
+        }
+        return end < regex.length() && regex.charAt(end) == '}' ? end : -1;
+    }
+
+    private int digitsEnd(int start) {
+        int end = start;
+        while (end < regex.length() && isDigit(regex.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * A quantifier can only be followed by ? to make it lazy, another quantifier is a syntax error in javascript.
+     */
+    private void quantifierSuffix(StringBuilder out) {
+        if (peek() == '?') {
+            out.append('?');
+            pos++;
+        }
+        final char next = peek();
+        if (next == '*' || next == '+' || next == '?' || (next == '{' && braceQuantifierEnd(pos + 1) >= 0)) {
+            throw invalid("Nothing to repeat");
+        }
+    }
+
+    private void escape(StringBuilder out) {
+        final char c = escaped();
+        switch (c) {
+            case 's':
+                out.append('[').append(WHITESPACE).append(']');
+                break;
+            case 'b':
+                out.append(WORD_BOUNDARY);
+                break;
+            case 'B':
+                out.append(NON_WORD_BOUNDARY);
+                break;
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                backReference(out);
+                break;
+            case 'k':
+                namedBackReference(out);
+                break;
+            default:
+                commonEscape(out, c);
+                break;
+        }
+    }
+
+    private char escaped() {
+        if (pos == regex.length()) {
+            throw invalid("\\ at end of pattern");
+        }
+        return regex.charAt(pos++);
+    }
+
+    private void backReference(StringBuilder out) {
+        int end = pos;
+        while (end < regex.length() && Character.isDigit(regex.charAt(end))) {
+            end++;
+        }
+        final String number = regex.substring(pos - 1, end);
+        if (number.length() < 6 && Integer.parseInt(number) <= groups) {
+            out.append('\\').append(number);
+            pos = end;
+        } else {
+            octal(out, regex.charAt(pos - 1));
+        }
+    }
+
+    private void namedBackReference(StringBuilder out) {
+        final int end = regex.indexOf('>', pos);
+        if (namedGroups && peek() == '<' && end > 0) {
+            out.append("\\k").append(regex, pos, end + 1);
+            pos = end + 1;
+        } else {
+            out.append('k');
+        }
+    }
+
+    private void characterClass(StringBuilder out) {
+        final boolean negated = peek() == '^';
+        if (negated) {
+            pos++;
+        }
+        if (peek() == ']') {
+            pos++;
+            out.append(negated ? "[\\s\\S]" : "(?!)");
+            return;
+        }
+        final StringBuilder content = new StringBuilder();
+        boolean nested = false;
+        boolean afterClassEscape = false;
+        while (pos < regex.length()) {
+            final char c = regex.charAt(pos++);
+            if (c == ']') {
+                if (negated && nested) {
+                    //java 7 and 8 do not negate nested classes
+                    out.append("(?:(?![").append(content).append("])[\\s\\S])");
+                } else {
+                    out.append(negated ? "[^" : "[").append(content).append(']');
+                }
+                return;
+            }
+            final boolean classEscape = c == '\\' && "dDwWsS".indexOf(peek()) >= 0;
+            if (c == '\\') {
+                nested |= peek() == 'S';
+                classEscape(content);
+            } else if (c == '[' || c == '&' || c == '^' || (c == '-' && (afterClassEscape || isClassEscapeAhead()))) {
+                content.append('\\').append(c);
+            } else {
+                content.append(c);
+            }
+            afterClassEscape = classEscape;
+        }
+        throw invalid("Unterminated character class");
+    }
+
+    private boolean isClassEscapeAhead() {
+        return peek() == '\\' && "dDwWsS".indexOf(peek(1)) >= 0;
+    }
+
+    private void classEscape(StringBuilder out) {
+        final char c = escaped();
+        switch (c) {
+            case 's':
+                out.append(WHITESPACE);
+                break;
+            case 'b':
+                out.append("\\x08");
+                break;
+            case 'c':
+                final char letter = peek();
+                if (Character.isDigit(letter) || letter == '_') {
+                    pos++;
+                    hex(out, letter % 32);
+                } else {
+                    commonEscape(out, c);
+                }
+                break;
+            default:
+                if (c >= '1' && c <= '9') {
+                    octal(out, c);
+                } else {
+                    commonEscape(out, c);
+                }
+                break;
+        }
+    }
+
+    /**
+     * The escapes with the same meaning inside and outside of a character class.
+     */
+    private void commonEscape(StringBuilder out, char c) {
+        switch (c) {
+            case 'd':
+            case 'D':
+            case 'w':
+            case 'W':
+            case 't':
+            case 'n':
+            case 'r':
+            case 'f':
+                out.append('\\').append(c);
+                break;
+            case 'S':
+                out.append("[^").append(WHITESPACE).append(']');
+                break;
+            case '0':
+                if (isOctal(peek())) {
+                    octal(out, c);
+                } else {
+                    out.append("\\x00");
+                }
+                break;
+            case 'v':
+                out.append("\\x0B");
+                break;
+            case 'c':
+                final char letter = peek();
+                if (isAsciiLetter(letter)) {
+                    pos++;
+                    hex(out, letter % 32);
+                } else {
+                    out.append("\\\\c");
+                }
+                break;
+            case 'x':
+                hexEscape(out, c, 2);
+                break;
+            case 'u':
+                hexEscape(out, c, 4);
+                break;
+            default:
+                literal(out, c);
+                break;
+        }
+    }
+
+    private void hexEscape(StringBuilder out, char c, int digits) {
+        if (pos + digits <= regex.length() && isHex(regex.substring(pos, pos + digits))) {
+            out.append('\\').append(c).append(regex, pos, pos + digits);
+            pos += digits;
+        } else {
+            out.append(c);
+        }
+    }
+
+    /**
+     * A legacy octal escape, the first digit is already consumed.
+     */
+    private void octal(StringBuilder out, char first) {
+        if (!isOctal(first)) {
+            out.append(first);
+            return;
+        }
+        int value = first - '0';
+        final int maxDigits = first <= '3' ? 3 : 2;
+        for (int i = 1; i < maxDigits && isOctal(peek()); i++) {
+            value = value * 8 + regex.charAt(pos++) - '0';
+        }
+        hex(out, value);
+    }
+
+    private void hex(StringBuilder out, int value) {
+        out.append(String.format("\\x%02x", value));
+    }
+
+    private void literal(StringBuilder out, char c) {
+        if (c < 128 && !Character.isLetterOrDigit(c)) {
+            out.append('\\');
+        }
+        out.append(c);
+    }
+
+    private char peek() {
+        return peek(0);
+    }
+
+    private char peek(int offset) {
+        return pos + offset < regex.length() ? regex.charAt(pos + offset) : 0;
+    }
+
+    private JsRegex.InvalidRegexException invalid(String message) {
+        return new JsRegex.InvalidRegexException("Invalid regular expression: /" + regex + "/: " + message, null);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isOctal(char c) {
+        return c >= '0' && c <= '7';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isHex(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.digit(s.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countGroups(String regex) {
+        int count = 0;
+        boolean inClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(' && (i + 1 == regex.length() || regex.charAt(i + 1) != '?'
+                    || (i + 3 < regex.length() && regex.charAt(i + 2) == '<' && regex.charAt(i + 3) != '=' && regex.charAt(i + 3) != '!'))) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -21,7 +21,7 @@ import org.raml.model.*;
 /**
  *
  */
-final class Locator {
+final class Locator implements Message.MutableParam {
     private Resource resource;
     private Action action;
     private MimeType requestMime;
@@ -43,6 +43,17 @@ final class Locator {
         requestMime(mimeType);
     }
 
+    @Override
+    public Locator snapshot() {
+        final Locator snapshot = new Locator();
+        snapshot.resource = resource;
+        snapshot.action = action;
+        snapshot.requestMime = requestMime;
+        snapshot.responseCode = responseCode;
+        snapshot.responseMime = responseMime;
+        return snapshot;
+    }
+
     public void resource(Resource resource) {
         this.resource = resource;
         action = null;
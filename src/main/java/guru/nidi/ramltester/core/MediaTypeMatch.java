@@ -59,7 +59,8 @@ final class MediaTypeMatch {
         return targetType.getCharset("iso-8859-1");
     }
 
-    public static MediaTypeMatch find(RamlViolations violations, RamlMessage message, Map<String, MimeType> bodies, Locator locator) {
+    public static MediaTypeMatch find(RamlViolations violations, RamlMessage message, BodyTypes bodyTypes, Locator locator) {
+        final Map<String, MimeType> bodies = bodyTypes.getBodies();
         if (isNoOrEmptyBodies(bodies)) {
             violations.addIf(hasContent(message), "body.superfluous", locator);
             return null;
@@ -76,7 +77,8 @@ final class MediaTypeMatch {
             violations.add("mediaType.illegal", locator, message.getContentType(), e.getMessage());
             return null;
         }
-        final Map<MediaType, MimeType> mediaTypes = mediaTypes(violations, bodies, locator);
+        bodyTypes.addIllegalTypeViolations(violations, locator);
+        final Map<MediaType, MimeType> mediaTypes = bodyTypes.getTypes();
         final List<Map.Entry<MediaType, MimeType>> bestMatches = findBestMatches(mediaTypes, targetType);
         if (bestMatches.isEmpty()) {
             violations.add("mediaType.undefined", locator, message.getContentType());
@@ -89,34 +91,17 @@ final class MediaTypeMatch {
         return new MediaTypeMatch(targetType, mediaTypes.keySet(), bestMatches.get(0).getKey(), bestMatches.get(0).getValue());
     }
 
-    private static Map<MediaType, MimeType> mediaTypes(RamlViolations violations, Map<String, MimeType> bodies, Locator locator) {
-        final Map<MediaType, MimeType> types = new LinkedHashMap<>();
-        for (final Map.Entry<String, MimeType> entry : bodies.entrySet()) {
-            try {
-                types.put(MediaType.valueOf(entry.getKey()), entry.getValue());
-            } catch (InvalidMediaTypeException e) {
-                violations.add(new Message("mediaType.illegal", locator, entry.getKey(), e.getMessage()));
-            }
-        }
-        return types;
-    }
-
     private static List<Map.Entry<MediaType, MimeType>> findBestMatches(Map<MediaType, MimeType> types, MediaType targetType) {
         final List<Map.Entry<MediaType, MimeType>> bestMatches = new ArrayList<>();
+        int bestSimilarity = 0;
         for (final Map.Entry<MediaType, MimeType> entry : types.entrySet()) {
             final int similarity = targetType.similarity(entry.getKey());
-            if (bestMatches.isEmpty()) {
-                if (similarity > 0) {
-                    bestMatches.add(entry);
-                }
-            } else {
-                final int bestSimilarity = targetType.similarity(bestMatches.get(0).getKey());
-                if (similarity > bestSimilarity) {
-                    bestMatches.clear();
-                    bestMatches.add(entry);
-                } else if (similarity == bestSimilarity) {
-                    bestMatches.add(entry);
-                }
+            if (similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                bestMatches.clear();
+                bestMatches.add(entry);
+            } else if (similarity > 0 && similarity == bestSimilarity) {
+                bestMatches.add(entry);
             }
         }
         return bestMatches;
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+/**
+ * Scanners for the syntax of integer and number parameter values.
+ */
+final class NumberSyntax {
+    private NumberSyntax() {
+    }
+
+    static boolean isUnbound(String value) {
+        return "inf".equals(value) || "-inf".equals(value) || "nan".equals(value);
+    }
+
+    /**
+     * @param value a valid integer with at most 18 digits
+     */
+    static long parseLong(String value) {
+        final boolean negative = value.charAt(0) == '-';
+        long res = 0;
+        for (int i = negative ? 1 : 0; i < value.length(); i++) {
+            res = res * 10 + value.charAt(i) - '0';
+        }
+        return negative ? -res : res;
+    }
+
+    /**
+     * Same as the regex {@code 0|-?[1-9][0-9]*}.
+     */
+    static boolean isInteger(String value) {
+        if ("0".equals(value)) {
+            return true;
+        }
+        final int start = value.startsWith("-") ? 1 : 0;
+        if (start >= value.length() || !isNonZeroDigit(value.charAt(start))) {
+            return false;
+        }
+        return digits(value, start + 1) == value.length();
+    }
+
+    /**
+     * Same as the regex {@code 0|inf|-inf|nan|-?(((0?|[1-9][0-9]*)\.[0-9]*[1-9])|([1-9][0-9]*))(e[-+]?[1-9][0-9]*)?}.
+     */
+    static boolean isNumber(String value) {
+        if ("0".equals(value) || isUnbound(value)) {
+            return true;
+        }
+        final int len = value.length();
+        int pos = value.startsWith("-") ? 1 : 0;
+        final boolean leadingZero = pos < len && value.charAt(pos) == '0';
+        if (leadingZero) {
+            pos++;
+        } else if (pos < len && isNonZeroDigit(value.charAt(pos))) {
+            pos = digits(value, pos + 1);
+        } else if (pos >= len || value.charAt(pos) != '.') {
+            return false;
+        }
+        if (pos < len && value.charAt(pos) == '.') {
+            final int end = digits(value, pos + 1);
+            if (end == pos + 1 || value.charAt(end - 1) == '0') {
+                return false;
+            }
+            pos = end;
+        } else if (leadingZero) {
+            return false;
+        }
+        if (pos < len && value.charAt(pos) == 'e') {
+            pos++;
+            if (pos < len && (value.charAt(pos) == '-' || value.charAt(pos) == '+')) {
+                pos++;
+            }
+            if (pos >= len || !isNonZeroDigit(value.charAt(pos))) {
+                return false;
+            }
+            pos = digits(value, pos + 1);
+        }
+        return pos == len;
+    }
+
+    private static int digits(String value, int start) {
+        int pos = start;
+        while (pos < value.length() && value.charAt(pos) >= '0' && value.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isNonZeroDigit(char c) {
+        return c >= '1' && c <= '9';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.Message;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * The limits of an integer or number parameter.
+ * Integers within the range of long are checked without creating a {@link BigDecimal}.
+ */
+final class NumberValidator {
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final BigDecimal minimum;
+    private final BigDecimal maximum;
+    private final boolean longLimits;
+    private final long minLong;
+    private final long maxLong;
+
+    NumberValidator(BigDecimal minimum, BigDecimal maximum) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+        //an integer value is >= minimum iff it is >= ceil(minimum)
+        final BigDecimal minCeil = minimum == null ? null : minimum.setScale(0, RoundingMode.CEILING);
+        final BigDecimal maxFloor = maximum == null ? null : maximum.setScale(0, RoundingMode.FLOOR);
+        longLimits = fitsLong(minCeil) && fitsLong(maxFloor);
+        minLong = minCeil == null || !longLimits ? Long.MIN_VALUE : minCeil.longValue();
+        maxLong = maxFloor == null || !longLimits ? Long.MAX_VALUE : maxFloor.longValue();
+    }
+
+    private static boolean fitsLong(BigDecimal value) {
+        return value == null || (value.compareTo(MIN_LONG) >= 0 && value.compareTo(MAX_LONG) <= 0);
+    }
+
+    public boolean isValidInteger(String value) {
+        return NumberSyntax.isInteger(value) && isWithinLimits(value);
+    }
+
+    public boolean isValidNumber(String value) {
+        return NumberSyntax.isNumber(value) && isNumberWithinLimits(value);
+    }
+
+    public void checkInteger(String value, Message detail, RamlViolations violations) {
+        if (NumberSyntax.isInteger(value)) {
+            checkLimits(new BigDecimal(value), detail, violations);
+        } else {
+            violations.add(detail.withMessageParam("integer.invalid"));
+        }
+    }
+
+    public void checkNumber(String value, Message detail, RamlViolations violations) {
+        if (NumberSyntax.isNumber(value)) {
+            if (NumberSyntax.isUnbound(value)) {
+                violations.addIf(minimum != null || maximum != null, detail.withMessageParam("unbound"));
+            } else {
+                checkLimits(new BigDecimal(value), detail, violations);
+            }
+        } else {
+            violations.add(detail.withMessageParam("number.invalid"));
+        }
+    }
+
+    private boolean isNumberWithinLimits(String value) {
+        if (minimum == null && maximum == null) {
+            return true;
+        }
+        if (NumberSyntax.isUnbound(value)) {
+            return false;
+        }
+        return NumberSyntax.isInteger(value)
+                ? isWithinLimits(value)
+                : isWithinLimits(new BigDecimal(value));
+    }
+
+    /**
+     * @param value a valid integer
+     */
+    private boolean isWithinLimits(String value) {
+        if (minimum == null && maximum == null) {
+            return true;
+        }
+        final int digits = value.charAt(0) == '-' ? value.length() - 1 : value.length();
+        if (!longLimits || digits > MAX_LONG_DIGITS) {
+            return isWithinLimits(new BigDecimal(value));
+        }
+        final long v = NumberSyntax.parseLong(value);
+        return v >= minLong && v <= maxLong;
+    }
+
+    private boolean isWithinLimits(BigDecimal value) {
+        return (minimum == null || minimum.compareTo(value) <= 0)
+                && (maximum == null || maximum.compareTo(value) >= 0);
+    }
+
+    private void checkLimits(BigDecimal value, Message message, RamlViolations violations) {
+        violations.addIf(minimum != null && minimum.compareTo(value) > 0,
+                message.withMessageParam("value.tooSmall", minimum));
+        violations.addIf(maximum != null && maximum.compareTo(value) < 0,
+                message.withMessageParam("value.tooBig", maximum));
+    }
+}
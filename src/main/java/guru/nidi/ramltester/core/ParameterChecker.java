@@ -20,27 +20,13 @@ import guru.nidi.ramltester.util.FileValue;
 import guru.nidi.ramltester.util.Message;
 import org.raml.model.ParamType;
 import org.raml.model.parameter.AbstractParam;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.math.BigDecimal;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 /**
  *
  */
 class ParameterChecker {
-    private static final Pattern INTEGER = Pattern.compile("0|-?[1-9][0-9]*");
-    private static final Pattern NUMBER = Pattern.compile("0|inf|-inf|nan|-?(((0?|[1-9][0-9]*)\\.[0-9]*[1-9])|([1-9][0-9]*))(e[-+]?[1-9][0-9]*)?");
-    private static final String DATE_FORMAT = "EEE, dd MMM yyyy HH:mm:ss 'GMT'";
-    private static final String WILDCARD = "{?}";
-
-    private final Logger log = LoggerFactory.getLogger(getClass());
-
     private final RamlViolations violations;
     private final boolean acceptUndefined;
     private final boolean acceptWildcard;
@@ -82,27 +68,24 @@ class ParameterChecker {
     }
 
     public Set<String> checkParameters(Map<String, ? extends AbstractParam> params, Values values, Message message) {
-        final Map<String, List<? extends AbstractParam>> listParams = new HashMap<>();
-        addToMapOfList(params, listParams);
-        return checkListParameters(listParams, values, message);
+        return checkParameters(ParameterIndex.ofSingle(params, caseSensitive), values, message);
     }
 
-    private void addToMapOfList(Map<String, ? extends AbstractParam> params, Map<String, List<? extends AbstractParam>> listParams) {
-        for (final Map.Entry<String, ? extends AbstractParam> entry : params.entrySet()) {
-            listParams.put(entry.getKey(), Collections.singletonList(entry.getValue()));
-        }
+    public Set<String> checkListParameters(Map<String, List<? extends AbstractParam>> params, Values values, Message message) {
+        return checkParameters(new ParameterIndex(params, caseSensitive), values, message);
     }
 
     private boolean acceptUndefined(String name) {
         return acceptUndefined || predefined.contains(name) || (ignoreX && name.startsWith("x-"));
     }
 
-    public Set<String> checkListParameters(Map<String, List<? extends AbstractParam>> params, Values values, Message message) {
+    public Set<String> checkParameters(ParameterIndex index, Values values, Message message) {
+        final Map<String, List<? extends AbstractParam>> params = index.getParams();
         final Set<String> found = new HashSet<>();
         for (final Map.Entry<String, List<Object>> entry : values) {
             final Message namedMsg = message.withParam(entry.getKey());
-            final String paramName = findMatchingParamName(params.keySet(), entry.getKey());
-            final List<? extends AbstractParam> parameters = params.get(paramName);
+            final String paramName = index.find(entry.getKey(), acceptWildcard);
+            final List<? extends AbstractParam> parameters = paramName == null ? null : params.get(paramName);
             if (parameters == null || parameters.isEmpty()) {
                 violations.addIf(!acceptUndefined(entry.getKey().toLowerCase(Locale.ENGLISH)), namedMsg.withMessageParam("undefined"));
             } else {
@@ -124,51 +107,24 @@ class ParameterChecker {
         return found;
     }
 
-    private String findMatchingParamName(Collection<String> paramNames, String name) {
-        final String normalName = normalizeName(name);
-        for (final String param : paramNames) {
-            final String normalParam = normalizeName(param);
-            final int pos = normalParam.indexOf(WILDCARD);
-            if (normalParam.equals(normalName) || (acceptWildcard && pos >= 0 &&
-                    nameMatchesKeyStart(normalName, normalParam, pos) && nameMatchesKeyEnd(normalName, normalParam, pos))) {
-                return param;
-            }
-        }
-        return null;
-    }
-
-    private String normalizeName(String name) {
-        return caseSensitive ? name : name.toLowerCase(Locale.ENGLISH);
-    }
-
-    private boolean nameMatchesKeyStart(String name, String key, int wildcardPos) {
-        return wildcardPos == 0 || name.startsWith(key.substring(0, wildcardPos));
-    }
-
-    private boolean nameMatchesKeyEnd(String name, String key, int wildcardPos) {
-        return wildcardPos == key.length() - WILDCARD.length() ||
-                name.endsWith(key.substring(wildcardPos + WILDCARD.length()));
-    }
-
     public void checkParameter(AbstractParam param, Object value, Message message) {
         if (value == null) {
-            final Message detail = message.withInnerParam(new Message("value", "empty"));
-            checkNullParameter(param, detail);
+            checkNullParameter(param, message.withInnerParam(new Message("value", "empty")));
+        } else if (value instanceof String) {
+            checkStringParameter(param, (String) value, message);
+        } else if (value instanceof FileValue) {
+            checkFileParameter(param, message.withInnerParam(new Message("value", value)));
         } else {
-            final Message detail = message.withInnerParam(new Message("value", value));
-            if (value instanceof String) {
-                checkStringParameter(param, (String) value, detail);
-            } else if (value instanceof FileValue) {
-                checkFileParameter(param, detail);
-            } else {
-                throw new IllegalArgumentException("Unhandled parameter value '" + value + "' of type " + value.getClass());
-            }
+            throw new IllegalArgumentException("Unhandled parameter value '" + value + "' of type " + value.getClass());
         }
     }
 
     private void checkNullParameter(AbstractParam param, Message detail) {
         if (param.getType() == ParamType.STRING) {
-            checkStringParameter(param, "", detail);
+            final ParameterValidator validator = ParameterValidator.forParam(param);
+            if (!validator.isValid("")) {
+                validator.check("", detail, violations);
+            }
         } else {
             violations.add(detail.withMessageParam("value.empty"));
         }
@@ -180,88 +136,10 @@ class ParameterChecker {
         }
     }
 
-    private void checkStringParameter(AbstractParam param, String value, Message detail) {
-        switch (param.getType()) {
-            case BOOLEAN:
-                checkBoolean(value, detail);
-                break;
-            case DATE:
-                checkDate(value, detail);
-                break;
-            case FILE:
-                checkFile(detail);
-                break;
-            case INTEGER:
-                checkInteger(param, value, detail);
-                break;
-            case NUMBER:
-                checkNumber(param, value, detail);
-                break;
-            case STRING:
-                checkString(param, value, detail);
-                break;
-            default:
-                throw new RamlCheckerException("Unhandled parameter type '" + param.getType() + "'");
-        }
-    }
-
-    private void checkString(AbstractParam param, String value, Message detail) {
-        violations.addIf(param.getEnumeration() != null && !param.getEnumeration().contains(value),
-                detail.withMessageParam("enum.invalid", param.getEnumeration()));
-        try {
-            violations.addIf(param.getPattern() != null && !JsRegex.matches(value, param.getPattern()),
-                    detail.withMessageParam("pattern.invalid", param.getPattern()));
-        } catch (PatternSyntaxException e) {
-            log.warn("Could not execute regex '" + param.getPattern(), e);
-        }
-        violations.addIf(param.getMinLength() != null && value.length() < param.getMinLength(),
-                detail.withMessageParam("length.tooSmall", param.getMinLength()));
-        violations.addIf(param.getMaxLength() != null && value.length() > param.getMaxLength(),
-                detail.withMessageParam("length.tooBig", param.getMaxLength()));
-    }
-
-    private void checkNumber(AbstractParam param, String value, Message detail) {
-        if (NUMBER.matcher(value).matches()) {
-            if ("inf".equals(value) || "-inf".equals(value) || "nan".equals(value)) {
-                violations.addIf(param.getMinimum() != null || param.getMaximum() != null, detail.withMessageParam("unbound"));
-            } else {
-                checkNumericLimits(param, new BigDecimal(value), detail);
-            }
-        } else {
-            violations.add(detail.withMessageParam("number.invalid"));
-        }
-    }
-
-    private void checkInteger(AbstractParam param, String value, Message detail) {
-        if (INTEGER.matcher(value).matches()) {
-            checkNumericLimits(param, new BigDecimal(value), detail);
-        } else {
-            violations.add(detail.withMessageParam("integer.invalid"));
-        }
-    }
-
-    private void checkFile(Message detail) {
-        violations.add(detail.withMessageParam("file.invalid"));
-    }
-
-    private void checkDate(String value, Message detail) {
-        try {
-            final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT, Locale.ENGLISH);
-            dateFormat.setLenient(false);
-            dateFormat.parse(value);
-        } catch (ParseException e) {
-            violations.add(detail.withMessageParam("date.invalid"));
+    private void checkStringParameter(AbstractParam param, String value, Message message) {
+        final ParameterValidator validator = ParameterValidator.forParam(param);
+        if (!validator.isValid(value)) {
+            validator.check(value, message.withInnerParam(new Message("value", value)), violations);
         }
     }
-
-    private void checkBoolean(String value, Message detail) {
-        violations.addIf(!"true".equals(value) && !"false".equals(value), detail.withMessageParam("boolean.invalid"));
-    }
-
-    private void checkNumericLimits(AbstractParam param, BigDecimal value, Message message) {
-        violations.addIf(param.getMinimum() != null && param.getMinimum().compareTo(value) > 0,
-                message.withMessageParam("value.tooSmall", param.getMinimum()));
-        violations.addIf(param.getMaximum() != null && param.getMaximum().compareTo(value) < 0,
-                message.withMessageParam("value.tooBig", param.getMaximum()));
-    }
 }
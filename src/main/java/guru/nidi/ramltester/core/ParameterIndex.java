@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import org.raml.model.parameter.AbstractParam;
+
+import java.util.*;
+
+/**
+ * The declared names of a parameter map, prepared to find the declaration matching a given name.
+ * Exact names are found by a hash lookup, names containing a wildcard {@code {?}} are split once into prefix and suffix.
+ * If multiple declarations match a name, the first one in the order of the map wins.
+ */
+final class ParameterIndex {
+    static final String WILDCARD = "{?}";
+
+    private final Map<String, List<? extends AbstractParam>> params;
+    private final boolean caseSensitive;
+    private final Map<String, Name> exact = new HashMap<>();
+    private final List<Wildcard> wildcards = new ArrayList<>();
+
+    ParameterIndex(Map<String, List<? extends AbstractParam>> params, boolean caseSensitive) {
+        this.params = params;
+        this.caseSensitive = caseSensitive;
+        int order = 0;
+        for (final String name : params.keySet()) {
+            final String normal = normalize(name);
+            if (!exact.containsKey(normal)) {
+                exact.put(normal, new Name(name, order));
+            }
+            final int pos = normal.indexOf(WILDCARD);
+            if (pos >= 0) {
+                wildcards.add(new Wildcard(name, order, normal.substring(0, pos), normal.substring(pos + WILDCARD.length())));
+            }
+            order++;
+        }
+    }
+
+    static ParameterIndex ofSingle(Map<String, ? extends AbstractParam> params, boolean caseSensitive) {
+        final Map<String, List<? extends AbstractParam>> listParams = new LinkedHashMap<>();
+        for (final Map.Entry<String, ? extends AbstractParam> entry : params.entrySet()) {
+            listParams.put(entry.getKey(), Collections.singletonList(entry.getValue()));
+        }
+        return new ParameterIndex(listParams, caseSensitive);
+    }
+
+    public Map<String, List<? extends AbstractParam>> getParams() {
+        return params;
+    }
+
+    public boolean isCaseSensitive() {
+        return caseSensitive;
+    }
+
+    /**
+     * @return the declared name matching the given name or {@code null} if there is none.
+     */
+    public String find(String name, boolean acceptWildcard) {
+        final String normal = normalize(name);
+        final Name found = exact.get(normal);
+        if (acceptWildcard) {
+            final Wildcard wildcard = findWildcard(normal, found == null ? Integer.MAX_VALUE : found.order);
+            if (wildcard != null) {
+                return wildcard.name;
+            }
+        }
+        return found == null ? null : found.name;
+    }
+
+    private Wildcard findWildcard(String normal, int limit) {
+        for (final Wildcard wildcard : wildcards) {
+            if (wildcard.order >= limit) {
+                break;
+            }
+            if (normal.startsWith(wildcard.prefix) && normal.endsWith(wildcard.suffix)) {
+                return wildcard;
+            }
+        }
+        return null;
+    }
+
+    private String normalize(String name) {
+        return caseSensitive ? name : name.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Identifies the parameter map of a part of a definition, e.g. the headers of an action for a security scheme.
+     * Definition objects are compared by identity.
+     */
+    static final class Key {
+        private final String kind;
+        private final Object owner;
+        private final Object scheme;
+
+        Key(String kind, Object owner, Object scheme) {
+            this.kind = kind;
+            this.owner = owner;
+            this.scheme = scheme;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return kind.equals(key.kind) && owner == key.owner && scheme == key.scheme;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * kind.hashCode() + System.identityHashCode(owner)) + System.identityHashCode(scheme);
+        }
+    }
+
+    private static class Name {
+        final String name;
+        final int order;
+
+        Name(String name, int order) {
+            this.name = name;
+            this.order = order;
+        }
+    }
+
+    private static final class Wildcard extends Name {
+        final String prefix;
+        final String suffix;
+
+        Wildcard(String name, int order, String prefix, String suffix) {
+            super(name, order);
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+}
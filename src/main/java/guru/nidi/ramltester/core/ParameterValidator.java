@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import guru.nidi.ramltester.util.Message;
+import org.raml.model.ParamType;
+import org.raml.model.parameter.AbstractParam;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+/**
+ * The facets of a parameter, prepared to check values against them.
+ * A validator is created once per parameter and can be used concurrently.
+ * {@link #isValid(String)} does not allocate anything for valid values (except for dates),
+ * only if it fails, {@link #check(String, Message, RamlViolations)} is needed to create the violations.
+ */
+final class ParameterValidator {
+    //weak keys are compared by identity, so equal parameters of different RAMLs are not mixed up
+    private static final LoadingCache<AbstractParam, ParameterValidator> CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<AbstractParam, ParameterValidator>() {
+                @Override
+                public ParameterValidator load(AbstractParam param) {
+                    return new ParameterValidator(param);
+                }
+            });
+
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            final SimpleDateFormat dateFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH);
+            dateFormat.setLenient(false);
+            return dateFormat;
+        }
+    };
+
+    private final ParamType type;
+    private final StringValidator strings;
+    private final NumberValidator numbers;
+
+    private ParameterValidator(AbstractParam param) {
+        type = param.getType();
+        strings = new StringValidator(param);
+        numbers = new NumberValidator(param.getMinimum(), param.getMaximum());
+    }
+
+    static ParameterValidator forParam(AbstractParam param) {
+        return CACHE.getUnchecked(param);
+    }
+
+    public ParamType getType() {
+        return type;
+    }
+
+    public boolean isValid(String value) {
+        switch (type) {
+            case BOOLEAN:
+                return "true".equals(value) || "false".equals(value);
+            case DATE:
+                return isValidDate(value);
+            case FILE:
+                return false;
+            case INTEGER:
+                return numbers.isValidInteger(value);
+            case NUMBER:
+                return numbers.isValidNumber(value);
+            case STRING:
+                return strings.isValid(value);
+            default:
+                throw new RamlCheckerException("Unhandled parameter type '" + type + "'");
+        }
+    }
+
+    public void check(String value, Message detail, RamlViolations violations) {
+        switch (type) {
+            case BOOLEAN:
+                violations.addIf(!"true".equals(value) && !"false".equals(value), detail.withMessageParam("boolean.invalid"));
+                break;
+            case DATE:
+                violations.addIf(!isValidDate(value), detail.withMessageParam("date.invalid"));
+                break;
+            case FILE:
+                violations.add(detail.withMessageParam("file.invalid"));
+                break;
+            case INTEGER:
+                numbers.checkInteger(value, detail, violations);
+                break;
+            case NUMBER:
+                numbers.checkNumber(value, detail, violations);
+                break;
+            case STRING:
+                strings.check(value, detail, violations);
+                break;
+            default:
+                throw new RamlCheckerException("Unhandled parameter type '" + type + "'");
+        }
+    }
+
+    private static boolean isValidDate(String value) {
+        try {
+            DATE_FORMAT.get().parse(value);
+            return true;
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+}
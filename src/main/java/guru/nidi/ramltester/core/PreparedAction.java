@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.UriComponents;
+import org.raml.model.*;
+
+import java.util.*;
+
+import static guru.nidi.ramltester.core.CheckerHelper.getEffectiveBaseUriParams;
+
+/**
+ * Everything about an action which depends only on the RAML, computed once when the definition is loaded.
+ */
+final class PreparedAction {
+    final SecurityExtractor security;
+    final ParameterIndex baseUriParameters;
+    /**
+     * {@code null} if the protocols can not be determined, e.g. because the base uri has an unknown scheme.
+     */
+    final Set<Protocol> protocols;
+    final BodyTypes requestBodies;
+    private final Map<Response, BodyTypes> responseBodies = new IdentityHashMap<>();
+
+    private PreparedAction(Raml raml, Action action, UriComponents ramlUri, RamlViolations definitionViolations) {
+        this(raml, action, ramlUri, new SecurityExtractor(raml, action, definitionViolations));
+    }
+
+    private PreparedAction(Raml raml, Action action, UriComponents ramlUri, SecurityExtractor security) {
+        this.security = security;
+        baseUriParameters = new ParameterIndex(getEffectiveBaseUriParams(raml.getBaseUriParameters(), action), true);
+        protocols = ramlUri == null ? null : findProtocols(raml, action, ramlUri.getScheme());
+        requestBodies = BodyTypes.forBodies(action.getBody());
+        for (final SecurityScheme scheme : security.getSchemes()) {
+            for (final Response response : security.responses(scheme).values()) {
+                if (!responseBodies.containsKey(response)) {
+                    responseBodies.put(response, BodyTypes.forBodies(response.getBody()));
+                }
+            }
+        }
+    }
+
+    BodyTypes responseBodies(Response response) {
+        final BodyTypes bodies = responseBodies.get(response);
+        return bodies == null ? BodyTypes.forBodies(response.getBody()) : bodies;
+    }
+
+    static PreparedAction forAction(Raml raml, Action action, UriComponents ramlUri) {
+        return new PreparedAction(raml, action, ramlUri, SecurityExtractor.checkDefinitions(raml));
+    }
+
+    static PreparedAction forAction(Raml raml, Action action, UriComponents ramlUri, SecurityExtractor security) {
+        return new PreparedAction(raml, action, ramlUri, security);
+    }
+
+    /**
+     * @param ramlUri the parsed base uri of the RAML or {@code null} if it has none
+     */
+    static Map<Action, PreparedAction> ofAllActions(Raml raml, UriComponents ramlUri) {
+        final RamlViolations definitionViolations = SecurityExtractor.checkDefinitions(raml);
+        final Map<Action, PreparedAction> res = new IdentityHashMap<>();
+        addActions(raml, raml.getResources(), ramlUri, definitionViolations, res);
+        return res;
+    }
+
+    private static void addActions(Raml raml, Map<String, Resource> resources, UriComponents ramlUri, RamlViolations definitionViolations, Map<Action, PreparedAction> res) {
+        for (final Resource resource : resources.values()) {
+            for (final Action action : resource.getActions().values()) {
+                res.put(action, new PreparedAction(raml, action, ramlUri, definitionViolations));
+            }
+            addActions(raml, resource.getResources(), ramlUri, definitionViolations, res);
+        }
+    }
+
+    private static Set<Protocol> findProtocols(Raml raml, Action action, String fallback) {
+        List<Protocol> protocols = action.getProtocols();
+        if (protocols == null || protocols.isEmpty()) {
+            protocols = raml.getProtocols();
+        }
+        if ((protocols == null || protocols.isEmpty()) && fallback != null) {
+            try {
+                return EnumSet.of(Protocol.valueOf(fallback.toUpperCase(Locale.ENGLISH)));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return protocols == null || protocols.isEmpty() ? null : EnumSet.copyOf(protocols);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.UriComponents;
+import org.raml.model.*;
+import org.raml.model.parameter.AbstractParam;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Everything about a RAML which depends only on the RAML itself,
+ * computed once when the definition is loaded and shared by all configs derived from it.
+ */
+final class PreparedRaml {
+    private final Raml raml;
+    final ResourceRouter router;
+    private final ConcurrentMap<Action, ContentCapture> contentCaptures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ParameterIndex.Key, ParameterIndex> parameterIndexes = new ConcurrentHashMap<>();
+    /**
+     * {@code null} if the RAML has no or an invalid base uri.
+     */
+    final UriComponents ramlUri;
+    private final Map<Action, PreparedAction> actions;
+
+    PreparedRaml(Raml raml) {
+        this.raml = raml;
+        router = new ResourceRouter(raml.getResources());
+        ramlUri = parseBaseUri(raml);
+        actions = PreparedAction.ofAllActions(raml, ramlUri);
+    }
+
+    /**
+     * An invalid base uri is not reported here, but when a request is checked.
+     */
+    private static UriComponents parseBaseUri(Raml raml) {
+        if (raml.getBaseUri() == null) {
+            return null;
+        }
+        try {
+            return UriComponents.fromHttpUrl(raml.getBaseUri());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the parsed base uri of the RAML, throws if it is invalid
+     */
+    UriComponents baseUri() {
+        return ramlUri == null ? UriComponents.fromHttpUrl(raml.getBaseUri()) : ramlUri;
+    }
+
+    PreparedAction action(Action action) {
+        final PreparedAction prepared = actions.get(action);
+        return prepared == null ? PreparedAction.forAction(raml, action, ramlUri) : prepared;
+    }
+
+    PreparedAction action(Action action, SecurityExtractor security) {
+        return PreparedAction.forAction(raml, action, ramlUri, security);
+    }
+
+    ContentCapture contentCapture(Action action) {
+        final ContentCapture capture = contentCaptures.get(action);
+        if (capture != null) {
+            return capture;
+        }
+        final ContentCapture created = ContentCapture.forAction(action, action(action).security);
+        final ContentCapture existing = contentCaptures.putIfAbsent(action, created);
+        return existing == null ? created : existing;
+    }
+
+    ParameterIndex formParameterIndex(MimeType mimeType, Map<String, List<? extends AbstractParam>> formParameters) {
+        final ParameterIndex.Key key = new ParameterIndex.Key("form", mimeType, null);
+        final ParameterIndex index = parameterIndexes.get(key);
+        if (index != null) {
+            return index;
+        }
+        return cacheIndex(key, new ParameterIndex(formParameters, true));
+    }
+
+    ParameterIndex responseHeaderIndex(Response response) {
+        final ParameterIndex.Key key = new ParameterIndex.Key("responseHeader", response, null);
+        final ParameterIndex index = parameterIndexes.get(key);
+        if (index != null) {
+            return index;
+        }
+        return cacheIndex(key, ParameterIndex.ofSingle(response.getHeaders(), false));
+    }
+
+    private ParameterIndex cacheIndex(ParameterIndex.Key key, ParameterIndex index) {
+        final ParameterIndex existing = parameterIndexes.putIfAbsent(key, index);
+        return existing == null ? index : existing;
+    }
+}
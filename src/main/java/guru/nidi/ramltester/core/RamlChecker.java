@@ -22,6 +22,7 @@ import org.raml.model.parameter.AbstractParam;
 
 import java.io.UnsupportedEncodingException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static guru.nidi.ramltester.core.CheckerHelper.*;
 import static guru.nidi.ramltester.core.UsageBuilder.*;
@@ -30,11 +31,9 @@ import static guru.nidi.ramltester.core.UsageBuilder.*;
  *
  */
 public class RamlChecker {
-    private final CheckerConfig config;
-    private RamlViolations requestViolations;
-    private RamlViolationsPerSecurity violationsPerSecurity;
-    private Locator locator;
-    private Usage usage;
+    private static final UriComponents DUMMY_URI = UriComponents.fromHttpUrl("http://server"); //dummy url as we only match paths
+
+    private final AtomicReference<CheckerConfig> config;
 
     private static final class DefaultHeaders {
         private static final Set<String>
@@ -42,7 +41,82 @@ public class RamlChecker {
                 RESPONSE = new HashSet<>(Arrays.asList("access-control-allow-origin", "accept-ranges", "age", "allow", "cache-control", "connection", "content-encoding", "content-language", "content-length", "content-location", "content-md5", "content-disposition", "content-range", "content-type", "date", "etag", "expires", "last-modified", "link", "location", "p3p", "pragma", "proxy-authenticate", "refresh", "retry-after", "server", "set-cookie", "status", "strict-transport-security", "trailer", "transfer-encoding", "upgrade", "vary", "via", "warning", "www-authenticate", "x-frame-options"));
     }
 
+    /**
+     * The state of one check, so that a RamlChecker can be used concurrently.
+     */
+    private static final class Context {
+        private final CheckerConfig config;
+        private final RamlReport report;
+        private final Usage usage;
+        private final RamlViolations requestViolations;
+        private final Locator locator = new Locator();
+        private RamlViolationsPerSecurity violationsPerSecurity;
+
+        Context(CheckerConfig config, RamlReport report) {
+            this.config = config;
+            this.report = report;
+            usage = report.getUsage();
+            requestViolations = report.getRequestViolations();
+        }
+    }
+
+    /**
+     * A request routed to its action, so that sampling, content capture and check route it only once.
+     * A route can be checked once.
+     */
+    public static final class Route {
+        private final RamlChecker checker;
+        private final RamlRequest request;
+        private final RamlReport report;
+        private final Context ctx;
+        private boolean routed;
+        private boolean checked;
+        private Action action;
+
+        Route(RamlChecker checker, RamlRequest request, CheckerConfig config) {
+            this.checker = checker;
+            this.request = request;
+            report = new RamlReport(config.raml);
+            ctx = new Context(config, report);
+        }
+
+        public RamlChecker getChecker() {
+            return checker;
+        }
+
+        public RamlRequest getRequest() {
+            return request;
+        }
+
+        /**
+         * @return the action of the request or null if the request could not be routed
+         */
+        public Action getAction() {
+            if (!routed) {
+                action = checker.findAction(ctx, request);
+                routed = true;
+            }
+            return action;
+        }
+    }
+
+    /**
+     * The result of checking a response body against a response definition.
+     */
+    private static final class BodyCheck {
+        private final RamlViolations violations = new RamlViolations();
+        private MediaTypeMatch typeMatch;
+    }
+
     public RamlChecker(CheckerConfig config) {
+        this(new AtomicReference<>(config));
+    }
+
+    /**
+     * The config is read once at the start of each check,
+     * so it can be replaced while checks are running.
+     */
+    public RamlChecker(AtomicReference<CheckerConfig> config) {
         this.config = config;
     }
 
@@ -51,199 +125,289 @@ public class RamlChecker {
     }
 
     public RamlReport check(RamlRequest request, RamlResponse response) {
-        final RamlReport report = new RamlReport(config.raml);
-        usage = report.getUsage();
-        requestViolations = report.getRequestViolations();
-        final RamlViolations responseViolations = report.getResponseViolations();
-        locator = new Locator();
-        try {
-            final Action action = findAction(request);
-            final SecurityExtractor security = new SecurityExtractor(config.raml, action, requestViolations);
-            security.check(requestViolations);
-            violationsPerSecurity = new RamlViolationsPerSecurity(security);
-            checkRequest(request, action, security);
+        return check(route(request), request, response);
+    }
+
+    /**
+     * Checks a request that has already been routed.
+     * The request must have the same url and method as the routed one, but it can carry the contents read in the meantime.
+     */
+    public RamlReport check(Route route, RamlRequest request, RamlResponse response) {
+        if (route.checked) {
+            throw new IllegalStateException("Route has already been checked");
+        }
+        route.checked = true;
+        final Context ctx = route.ctx;
+        final RamlReport report = route.report;
+        //null if the request could not be routed, the reasons are in the report
+        final Action action = route.getAction();
+        if (action != null) {
+            final PreparedAction prepared = ctx.config.prepared.action(action);
+            prepared.security.addViolations(ctx.requestViolations);
+            ctx.violationsPerSecurity = new RamlViolationsPerSecurity(prepared.security);
+            checkRequest(ctx, request, action, prepared);
             if (response != null) {
-                checkResponse(request, response, action, security);
+                checkResponse(ctx, request, response, action, prepared);
             }
-            violationsPerSecurity.addLeastViolations(requestViolations, responseViolations);
-        } catch (RamlViolationException e) {
-            //ignore, results are in report
+            addLeastViolations(ctx);
         }
 
-        if (config.failFast && !report.isEmpty()) {
+        if (ctx.config.failFast && !report.isEmpty()) {
             throw new RamlViolationException(report);
         }
 
         return report;
     }
 
+    /**
+     * Checks only the request against the action, assuming the given security schemes.
+     *
+     * @return a new report with the violations of the request
+     */
+    public RamlReport checkRequest(RamlRequest request, Action action, SecurityExtractor security) {
+        final Context ctx = securedContext(action, security);
+        checkRequest(ctx, request, action, ctx.config.prepared.action(action, security));
+        addLeastViolations(ctx);
+        return ctx.report;
+    }
+
+    /**
+     * Checks only the response against the action, assuming the given security schemes.
+     *
+     * @return a new report with the violations of the response
+     */
+    public RamlReport checkResponse(RamlRequest request, RamlResponse response, Action action, SecurityExtractor security) {
+        final Context ctx = securedContext(action, security);
+        checkResponse(ctx, request, response, action, ctx.config.prepared.action(action, security));
+        addLeastViolations(ctx);
+        return ctx.report;
+    }
+
+    private static void addLeastViolations(Context ctx) {
+        ctx.violationsPerSecurity.addLeastViolations(ctx.requestViolations, ctx.report.getResponseViolations());
+    }
+
+    private Context securedContext(Action action, SecurityExtractor security) {
+        final CheckerConfig current = config.get();
+        final Context ctx = new Context(current, new RamlReport(current.raml));
+        ctx.locator.action(action);
+        ctx.violationsPerSecurity = new RamlViolationsPerSecurity(security);
+        return ctx;
+    }
+
+    /**
+     * Routes the request with the current config.
+     * Only the url and method of the request are read, so it can be called before any content is buffered.
+     */
+    public Route route(RamlRequest request) {
+        return new Route(this, request, config.get());
+    }
+
     public Action findAction(RamlRequest request) {
-        final UriComponents requestUri = UriComponents.fromHttpUrl(request.getRequestUrl(config.baseUri, config.includeServletPath));
-        if (config.raml.getBaseUri() == null) {
-            final UriComponents ramlUri = UriComponents.fromHttpUrl("http://server"); //dummy url as we only match paths
-            final VariableMatcher pathMatch = getPathMatch(requestUri, ramlUri);
-            return findAction(pathMatch.getSuffix(), request.getMethod());
+        final Action action = findActionOrNull(request);
+        if (action == null) {
+            throw new RamlViolationException();
+        }
+        return action;
+    }
+
+    Action findActionOrNull(RamlRequest request) {
+        return route(request).getAction();
+    }
+
+    /**
+     * Tells which contents are needed to check the request.
+     * Only the url and method of the request are read, so it can be called before any content is buffered.
+     */
+    public ContentCapture contentCapture(RamlRequest request) {
+        return contentCapture(route(request));
+    }
+
+    public ContentCapture contentCapture(Route route) {
+        final Action action = route.getAction();
+        if (action == null) {
+            return ContentCapture.NONE;
         }
+        return route.ctx.config.prepared.contentCapture(action);
+    }
+
+    /**
+     * Asks the sampling policy if the request should be checked.
+     * Only the url and method of the request are read, so it can be called before any content is buffered.
+     */
+    public boolean sample(RamlRequest request) {
+        return config.get().samplingPolicy.sample(this, request);
+    }
 
-        final UriComponents ramlUri = UriComponents.fromHttpUrl(config.raml.getBaseUri());
+    public boolean sample(Route route) {
+        return route.ctx.config.samplingPolicy.sample(route);
+    }
 
-        final VariableMatcher hostMatch = getHostMatch(requestUri, ramlUri);
-        final VariableMatcher pathMatch = getPathMatch(requestUri, ramlUri);
+    private Action findAction(Context ctx, RamlRequest request) {
+        final UriComponents requestUri = UriComponents.fromHttpUrl(request.getRequestUrl(ctx.config.baseUri, ctx.config.includeServletPath));
+        if (ctx.config.raml.getBaseUri() == null) {
+            final VariableMatcher pathMatch = getPathMatch(ctx, requestUri, DUMMY_URI);
+            return pathMatch == null ? null : findAction(ctx, pathMatch.getSuffix(), request.getMethod());
+        }
 
-        final Action action = findAction(pathMatch.getSuffix(), request.getMethod());
-        checkProtocol(action, requestUri, ramlUri);
-        checkBaseUriParameters(hostMatch, pathMatch, action);
+        final UriComponents ramlUri = ctx.config.prepared.baseUri();
+
+        final VariableMatcher hostMatch = getHostMatch(ctx, requestUri, ramlUri);
+        if (hostMatch == null) {
+            return null;
+        }
+        final VariableMatcher pathMatch = getPathMatch(ctx, requestUri, ramlUri);
+        if (pathMatch == null) {
+            return null;
+        }
+
+        final Action action = findAction(ctx, pathMatch.getSuffix(), request.getMethod());
+        if (action == null) {
+            return null;
+        }
+        final PreparedAction prepared = ctx.config.prepared.action(action);
+        checkProtocol(ctx, prepared, requestUri);
+        checkBaseUriParameters(ctx, hostMatch, pathMatch, prepared);
 
         return action;
     }
 
-    private Action findAction(String path, String method) {
-        final Resource resource = findResourceByPath(path);
-        resourceUsage(usage, resource).incUses(1);
+    private Action findAction(Context ctx, String path, String method) {
+        final Resource resource = findResourceByPath(ctx, path);
+        if (resource == null) {
+            return null;
+        }
+        resourceUsage(ctx.usage, resource).incUses(1);
         final Action action = resource.getAction(method);
         if (action == null) {
-            requestViolations.add("action.undefined", locator, method);
-            throw new RamlViolationException();
+            ctx.requestViolations.add("action.undefined", ctx.locator, method);
+            return null;
         }
-        actionUsage(usage, action).incUses(1);
-        locator.action(action);
+        actionUsage(ctx.usage, action).incUses(1);
+        ctx.locator.action(action);
         return action;
     }
 
-    private Resource findResourceByPath(String resourcePath) {
+    private Resource findResourceByPath(Context ctx, String resourcePath) {
         final Values values = new Values();
-        final List<ResourceMatch> matches = findResource(resourcePath, config.raml.getResources(), values);
+        final List<ResourceRouter.Route> matches = ctx.config.prepared.router.find(resourcePath, values);
         if (matches.isEmpty()) {
-            requestViolations.add("resource.undefined", resourcePath);
-            throw new RamlViolationException();
+            ctx.requestViolations.add("resource.undefined", resourcePath);
+            return null;
         }
-        if (matches.size() > 1 && matches.get(0).compareTo(matches.get(1)) == 0) {
-            requestViolations.add("resource.ambiguous", resourcePath, matches.get(0).resource.getUri(), matches.get(1).resource.getUri());
-            throw new RamlViolationException();
+        if (matches.size() > 1 && matches.get(0).variables == matches.get(1).variables) {
+            ctx.requestViolations.add("resource.ambiguous", resourcePath, matches.get(0).resource.getUri(), matches.get(1).resource.getUri());
+            return null;
         }
         final Resource resource = matches.get(0).resource;
-        locator.resource(resource);
-        checkUriParams(values, resource);
+        ctx.locator.resource(resource);
+        checkUriParams(ctx, values, resource);
         return resource;
     }
 
-    public void checkRequest(RamlRequest request, Action action, SecurityExtractor security) {
-        checkQueryParameters(request.getQueryValues(), action, security);
-        checkRequestHeaderParameters(request.getHeaderValues(), action, security);
+    private void checkRequest(Context ctx, RamlRequest request, Action action, PreparedAction prepared) {
+        checkRequestParameters(ctx, request, action, prepared.security);
 
-        final MediaTypeMatch typeMatch = MediaTypeMatch.find(requestViolations, request, action.getBody(), locator);
+        final MediaTypeMatch typeMatch = MediaTypeMatch.find(ctx.requestViolations, request, prepared.requestBodies, ctx.locator);
         if (typeMatch != null) {
-            locator.requestMime(typeMatch.getMatchingMime());
+            ctx.locator.requestMime(typeMatch.getMatchingMime());
             if (FormDecoder.supportsFormParameters(typeMatch.getTargetType())) {
-                checkFormParameters(action, request.getFormValues(), typeMatch.getMatchingMime());
+                checkFormParameters(ctx, action, request.getFormValues(), typeMatch.getMatchingMime());
             } else {
-                checkSchema(requestViolations, request.getContent(), typeMatch);
+                checkSchema(ctx, ctx.requestViolations, request.getContent(), typeMatch);
             }
         }
     }
 
-    private void checkFormParameters(Action action, Values values, MimeType mimeType) {
+    private void checkFormParameters(Context ctx, Action action, Values values, MimeType mimeType) {
         if (mimeType.getSchema() != null) {
-            requestViolations.add("schema.superfluous", locator);
+            ctx.requestViolations.add("schema.superfluous", ctx.locator);
         }
         @SuppressWarnings("unchecked")
         final Map<String, List<? extends AbstractParam>> formParameters = (Map) mimeType.getFormParameters();
         if (formParameters == null || formParameters.isEmpty()) {
-            requestViolations.add("formParameters.missing", locator);
+            ctx.requestViolations.add("formParameters.missing", ctx.locator);
         } else {
-            checkFormParametersValues(action, mimeType, values, formParameters);
+            checkFormParametersValues(ctx, action, mimeType, values, formParameters);
         }
     }
 
-    private void checkFormParametersValues(Action action, MimeType mimeType, Values values, Map<String, List<? extends AbstractParam>> formParameters) {
-        mimeTypeUsage(usage, action, mimeType).addFormParameters(
-                new ParameterChecker(requestViolations)
-                        .checkListParameters(formParameters, values, new Message("formParam", locator))
+    private void checkFormParametersValues(Context ctx, Action action, MimeType mimeType, Values values, Map<String, List<? extends AbstractParam>> formParameters) {
+        mimeTypeUsage(ctx.usage, action, mimeType).addFormParameters(
+                new ParameterChecker(ctx.requestViolations)
+                        .checkParameters(ctx.config.prepared.formParameterIndex(mimeType, formParameters), values, new Message("formParam", ctx.locator))
         );
     }
 
-    private void checkQueryParameters(Values values, Action action, SecurityExtractor security) {
+    private void checkRequestParameters(Context ctx, RamlRequest request, Action action, SecurityExtractor security) {
         //TODO usage is multiplied by security schemes
         for (final SecurityScheme scheme : security.getSchemes()) {
-            actionUsage(usage, action).addQueryParameters(
-                    new ParameterChecker(violationsPerSecurity.requestViolations(scheme))
-                            .checkParameters(mergeMaps(action.getQueryParameters(), security.queryParameters(scheme)), values, new Message("queryParam", locator))
+            final RamlViolations violations = ctx.violationsPerSecurity.requestViolations(scheme);
+            final Usage.Action usage = actionUsage(ctx.usage, action);
+            usage.addQueryParameters(
+                    new ParameterChecker(violations)
+                            .checkParameters(security.queryParameters(scheme), request.getQueryValues(), new Message("queryParam", ctx.locator))
             );
-        }
-    }
-
-    private void checkRequestHeaderParameters(Values values, Action action, SecurityExtractor security) {
-        //TODO usage is multiplied by security schemes
-        for (final SecurityScheme scheme : security.getSchemes()) {
-            actionUsage(usage, action).addRequestHeaders(
-                    new ParameterChecker(violationsPerSecurity.requestViolations(scheme))
+            usage.addRequestHeaders(
+                    new ParameterChecker(violations)
                             .acceptWildcard()
-                            .ignoreX(config.ignoreXheaders)
+                            .ignoreX(ctx.config.ignoreXheaders)
                             .caseSensitive(false)
                             .predefined(DefaultHeaders.REQUEST)
-                            .checkParameters(mergeMaps(action.getHeaders(), security.headers(scheme)), values, new Message("headerParam", locator))
+                            .checkParameters(security.headers(scheme), request.getHeaderValues(), new Message("headerParam", ctx.locator))
             );
         }
     }
 
-    private void checkBaseUriParameters(VariableMatcher hostMatch, VariableMatcher pathMatch, Action action) {
-        final ParameterChecker paramChecker = new ParameterChecker(requestViolations).acceptUndefined();
-        final Map<String, List<? extends AbstractParam>> baseUriParams = getEffectiveBaseUriParams(config.raml.getBaseUriParameters(), action);
-        paramChecker.checkListParameters(baseUriParams, hostMatch.getVariables(), new Message("baseUriParam", locator));
-        paramChecker.checkListParameters(baseUriParams, pathMatch.getVariables(), new Message("baseUriParam", locator));
+    private void checkBaseUriParameters(Context ctx, VariableMatcher hostMatch, VariableMatcher pathMatch, PreparedAction action) {
+        final ParameterChecker paramChecker = new ParameterChecker(ctx.requestViolations).acceptUndefined();
+        final ParameterIndex baseUriParams = action.baseUriParameters;
+        paramChecker.checkParameters(baseUriParams, hostMatch.getVariables(), new Message("baseUriParam", ctx.locator));
+        paramChecker.checkParameters(baseUriParams, pathMatch.getVariables(), new Message("baseUriParam", ctx.locator));
     }
 
-    private VariableMatcher getPathMatch(UriComponents requestUri, UriComponents ramlUri) {
+    private VariableMatcher getPathMatch(Context ctx, UriComponents requestUri, UriComponents ramlUri) {
         final VariableMatcher pathMatch = VariableMatcher.match(ramlUri.getPath(), requestUri.getPath());
         if (!pathMatch.isMatch()) {
-            requestViolations.add("baseUri.unmatched", requestUri.getUri(), config.raml.getBaseUri());
-            throw new RamlViolationException();
+            ctx.requestViolations.add("baseUri.unmatched", requestUri.getUri(), ctx.config.raml.getBaseUri());
+            return null;
         }
         return pathMatch;
     }
 
-    private VariableMatcher getHostMatch(UriComponents requestUri, UriComponents ramlUri) {
+    private VariableMatcher getHostMatch(Context ctx, UriComponents requestUri, UriComponents ramlUri) {
         final VariableMatcher hostMatch = VariableMatcher.match(ramlUri.getHost(), requestUri.getHost());
         if (!hostMatch.isCompleteMatch()) {
-            requestViolations.add("baseUri.unmatched", requestUri.getUri(), config.raml.getBaseUri());
-            throw new RamlViolationException();
+            ctx.requestViolations.add("baseUri.unmatched", requestUri.getUri(), ctx.config.raml.getBaseUri());
+            return null;
         }
         return hostMatch;
     }
 
-    private void checkProtocol(Action action, UriComponents requestUri, UriComponents ramlUri) {
-        final List<Protocol> protocols = findProtocols(action, ramlUri.getScheme());
-        requestViolations.addIf(!protocols.contains(protocolOf(requestUri.getScheme())), "protocol.undefined", locator, requestUri.getScheme());
+    private void checkProtocol(Context ctx, PreparedAction action, UriComponents requestUri) {
+        final Protocol protocol = protocolOf(requestUri.getScheme());
+        ctx.requestViolations.addIf(action.protocols == null || protocol == null || !action.protocols.contains(protocol), "protocol.undefined", ctx.locator, requestUri.getScheme());
     }
 
-    private List<Protocol> findProtocols(Action action, String fallback) {
-        List<Protocol> protocols = action.getProtocols();
-        if (protocols == null || protocols.isEmpty()) {
-            protocols = config.raml.getProtocols();
-        }
-        if (protocols == null || protocols.isEmpty()) {
-            protocols = Collections.singletonList(Protocol.valueOf(fallback.toUpperCase(Locale.ENGLISH)));
-        }
-        return protocols;
-    }
-
-    private void checkUriParams(Values values, Resource resource) {
-        final ParameterChecker paramChecker = new ParameterChecker(requestViolations).acceptUndefined();
+    private void checkUriParams(Context ctx, Values values, Resource resource) {
+        final ParameterChecker paramChecker = new ParameterChecker(ctx.requestViolations).acceptUndefined();
         for (final Map.Entry<String, List<Object>> entry : values) {
             final AbstractParam uriParam = findUriParam(entry.getKey(), resource);
-            final Message message = new Message("uriParam", locator, entry.getKey());
+            final Message message = new Message("uriParam", ctx.locator, entry.getKey());
             if (uriParam != null) {
                 paramChecker.checkParameter(uriParam, entry.getValue().get(0), message);
             }
         }
     }
 
-    public void checkResponse(RamlRequest request, RamlResponse response, Action action, SecurityExtractor security) {
+    private void checkResponse(Context ctx, RamlRequest request, RamlResponse response, Action action, PreparedAction prepared) {
+        //the body is checked only once for every response definition, even if it is used by multiple security schemes
+        final Map<Response, BodyCheck> bodyChecks = new IdentityHashMap<>();
         //TODO usage is multiplied by security schemes
-        for (final SecurityScheme scheme : security.getSchemes()) {
-            final RamlViolations requestViolations = violationsPerSecurity.requestViolations(scheme);
-            final RamlViolations responseViolations = violationsPerSecurity.responseViolations(scheme);
-            final MediaTypeMatch typeMatch = doCheckReponse(responseViolations, response, action, security.responses(scheme));
+        for (final SecurityScheme scheme : prepared.security.getSchemes()) {
+            final RamlViolations requestViolations = ctx.violationsPerSecurity.requestViolations(scheme);
+            final RamlViolations responseViolations = ctx.violationsPerSecurity.responseViolations(scheme);
+            final MediaTypeMatch typeMatch = doCheckReponse(ctx, responseViolations, response, action, prepared, scheme, bodyChecks);
             if (typeMatch != null) {
                 new ContentNegotiationChecker(requestViolations, responseViolations)
                         .check(request, response, action, typeMatch);
@@ -251,60 +415,65 @@ public class RamlChecker {
         }
     }
 
-    private MediaTypeMatch doCheckReponse(RamlViolations violations, RamlResponse response, Action action, Map<String, Response> securityResponses) {
-        final Map<String, Response> responseMap = mergeMaps(action.getResponses(), securityResponses);
-        final Response res = responseMap.get(Integer.toString(response.getStatus()));
+    private MediaTypeMatch doCheckReponse(Context ctx, RamlViolations violations, RamlResponse response, Action action, PreparedAction prepared, SecurityScheme scheme, Map<Response, BodyCheck> bodyChecks) {
+        final Response res = prepared.security.responses(scheme).get(Integer.toString(response.getStatus()));
         if (res == null) {
-            violations.add("responseCode.undefined", locator, response.getStatus());
+            violations.add("responseCode.undefined", ctx.locator, response.getStatus());
             return null;
         }
         final String statusStr = Integer.toString(response.getStatus());
-        actionUsage(usage, action).addResponseCode(statusStr);
-        locator.responseCode(statusStr);
-        checkResponseHeaderParameters(violations, response.getHeaderValues(), action, statusStr, res);
-
-        final MediaTypeMatch typeMatch = MediaTypeMatch.find(violations, response, res.getBody(), locator);
-        if (typeMatch != null) {
-            locator.responseMime(typeMatch.getMatchingMime());
-            checkSchema(violations, response.getContent(), typeMatch);
+        actionUsage(ctx.usage, action).addResponseCode(statusStr);
+        ctx.locator.responseCode(statusStr);
+        checkResponseHeaderParameters(ctx, violations, response.getHeaderValues(), action, statusStr, res);
+
+        BodyCheck bodyCheck = bodyChecks.get(res);
+        if (bodyCheck == null) {
+            bodyCheck = new BodyCheck();
+            bodyCheck.typeMatch = MediaTypeMatch.find(bodyCheck.violations, response, prepared.responseBodies(res), ctx.locator);
+            if (bodyCheck.typeMatch != null) {
+                ctx.locator.responseMime(bodyCheck.typeMatch.getMatchingMime());
+                checkSchema(ctx, bodyCheck.violations, response.getContent(), bodyCheck.typeMatch);
+            }
+            bodyChecks.put(res, bodyCheck);
+        } else if (bodyCheck.typeMatch != null) {
+            ctx.locator.responseMime(bodyCheck.typeMatch.getMatchingMime());
         }
-        return typeMatch;
+        violations.addAll(bodyCheck.violations);
+        return bodyCheck.typeMatch;
     }
 
-    private void checkSchema(RamlViolations violations, byte[] body, MediaTypeMatch typeMatch) {
+    private void checkSchema(Context ctx, RamlViolations violations, byte[] body, MediaTypeMatch typeMatch) {
         final String schema = typeMatch.getMatchingMime().getSchema();
         if (schema == null) {
             return;
         }
-        final SchemaValidator validator = findSchemaValidator(config.schemaValidators, typeMatch.getTargetType());
+        final SchemaValidator validator = findSchemaValidator(ctx.config.schemaValidators, typeMatch.getTargetType());
         if (validator == null) {
-            violations.add("schemaValidator.missing", locator, typeMatch.getTargetType());
+            violations.add("schemaValidator.missing", ctx.locator, typeMatch.getTargetType());
             return;
         }
         if (body == null || body.length == 0) {
-            violations.add("body.empty", locator, typeMatch.getTargetType());
+            violations.add("body.empty", ctx.locator, typeMatch.getTargetType());
             return;
         }
 
         final String charset = typeMatch.getTargetCharset();
         try {
             final String content = new String(body, charset);
-            validator.validate(new NamedReader(content, new Message("body").toString()), resolveSchema(config.raml, schema), violations, new Message("schema.body.mismatch", locator, content));
+            validator.validate(new NamedReader(content, new Message("body").toString()), resolveSchema(ctx.config.raml, schema), violations, new Message("schema.body.mismatch", ctx.locator, content));
         } catch (UnsupportedEncodingException e) {
             violations.add("charset.invalid", charset);
         }
     }
 
-    private void checkResponseHeaderParameters(RamlViolations violations, Values values, Action action, String responseCode, Response response) {
-        responseUsage(usage, action, responseCode).addResponseHeaders(
+    private void checkResponseHeaderParameters(Context ctx, RamlViolations violations, Values values, Action action, String responseCode, Response response) {
+        responseUsage(ctx.usage, action, responseCode).addResponseHeaders(
                 new ParameterChecker(violations)
                         .acceptWildcard()
-                        .ignoreX(config.ignoreXheaders)
+                        .ignoreX(ctx.config.ignoreXheaders)
                         .caseSensitive(false)
                         .predefined(DefaultHeaders.RESPONSE)
-                        .checkParameters(response.getHeaders(), values, new Message("headerParam", locator))
+                        .checkParameters(ctx.config.prepared.responseHeaderIndex(response), values, new Message("headerParam", ctx.locator))
         );
     }
 }
-
-
@@ -15,17 +15,31 @@
  */
 package guru.nidi.ramltester.core;
 
+import guru.nidi.ramltester.util.Message;
 
+/**
+ * The text of the message is only formatted when it's needed.
+ */
 public class RamlViolationMessage {
-    private final String message;
+    private final Message source;
+    private String message;
     private final Object cause;
 
     public RamlViolationMessage(String message, Object cause) {
+        this.source = null;
         this.message = message;
         this.cause = cause;
     }
 
+    RamlViolationMessage(Message source, Object cause) {
+        this.source = source;
+        this.cause = cause;
+    }
+
     public String getMessage() {
+        if (message == null) {
+            message = source.toString();
+        }
         return message;
     }
 
@@ -35,7 +49,7 @@ public class RamlViolationMessage {
 
     @Override
     public String toString() {
-        return message;
+        return getMessage();
     }
 
     @Override
@@ -49,7 +63,7 @@ public class RamlViolationMessage {
 
         RamlViolationMessage message1 = (RamlViolationMessage) o;
 
-        if (!message.equals(message1.message)) {
+        if (!getMessage().equals(message1.getMessage())) {
             return false;
         }
         return cause != null ? cause.equals(message1.cause) : message1.cause == null;
@@ -58,7 +72,7 @@ public class RamlViolationMessage {
 
     @Override
     public int hashCode() {
-        int result = message.hashCode();
+        int result = getMessage().hashCode();
         result = 31 * result + (cause != null ? cause.hashCode() : 0);
         return result;
     }
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.model.Values;
+import org.raml.model.Resource;
+
+import java.util.*;
+
+/**
+ * Finds the resources matching a path.
+ * The resource tree is indexed once by the literal first segment of each resource,
+ * so only the resources which can possibly match are examined for a given path.
+ * Resources starting with a variable are examined for every path.
+ * The preference of resources with less variables is resolved when the index is built.
+ */
+final class ResourceRouter {
+    private static final Comparator<Route> VARIABLE_COMPARATOR = new Comparator<Route>() {
+        @Override
+        public int compare(Route r1, Route r2) {
+            return r1.variables - r2.variables;
+        }
+    };
+
+    private final Level root;
+
+    ResourceRouter(Map<String, Resource> resources) {
+        root = new Level(resources);
+    }
+
+    public List<Route> find(String path, Values values) {
+        final List<Route> found = new ArrayList<>();
+        find(root, path, values, found);
+        return found;
+    }
+
+    private void find(Level level, String path, Values values, List<Route> found) {
+        for (final Route route : level.candidates(path)) {
+            final VariableMatcher pathMatch = VariableMatcher.match(route.pattern, path);
+            if (pathMatch.isCompleteMatch()) {
+                values.addValues(pathMatch.getVariables());
+                found.add(route);
+            } else if (pathMatch.isMatch() && pathMatch.getSuffix().startsWith("/")) {
+                values.addValues(pathMatch.getVariables());
+                find(route.children, pathMatch.getSuffix(), values, found);
+            }
+        }
+    }
+
+    /**
+     * The part of a path up to the second slash.
+     * A resource whose prefix contains no variable can only match paths with the same prefix.
+     */
+    private static String prefix(String path) {
+        final int pos = path.indexOf('/', 1);
+        return pos < 0 ? path : path.substring(0, pos);
+    }
+
+    private static int variableCount(String pattern) {
+        final Set<String> names = new HashSet<>();
+        int start = pattern.indexOf('{');
+        while (start >= 0) {
+            final int end = pattern.indexOf('}', start);
+            if (end < 0) {
+                break;
+            }
+            names.add(pattern.substring(start + 1, end));
+            start = pattern.indexOf('{', end);
+        }
+        return names.size();
+    }
+
+    static final class Route {
+        final String pattern;
+        final Resource resource;
+        final int variables;
+        private final Level children;
+        private int order;
+
+        Route(String pattern, Resource resource) {
+            this.pattern = pattern;
+            this.resource = resource;
+            this.variables = variableCount(pattern);
+            this.children = new Level(resource.getResources());
+        }
+    }
+
+    private static final class Level {
+        private final Map<String, List<Route>> literals = new HashMap<>();
+        private final List<Route> variables = new ArrayList<>();
+
+        Level(Map<String, Resource> resources) {
+            final List<Route> routes = new ArrayList<>();
+            for (final Map.Entry<String, Resource> entry : resources.entrySet()) {
+                routes.add(new Route(entry.getKey(), entry.getValue()));
+            }
+            Collections.sort(routes, VARIABLE_COMPARATOR);
+            for (int i = 0; i < routes.size(); i++) {
+                final Route route = routes.get(i);
+                route.order = i;
+                final String prefix = prefix(route.pattern);
+                if (prefix.indexOf('{') >= 0) {
+                    variables.add(route);
+                } else {
+                    List<Route> list = literals.get(prefix);
+                    if (list == null) {
+                        list = new ArrayList<>();
+                        literals.put(prefix, list);
+                    }
+                    list.add(route);
+                }
+            }
+        }
+
+        List<Route> candidates(String path) {
+            final List<Route> literal = literals.isEmpty() ? null : literals.get(prefix(path));
+            if (literal == null) {
+                return variables;
+            }
+            if (variables.isEmpty()) {
+                return literal;
+            }
+            return merge(literal, variables);
+        }
+
+        private static List<Route> merge(List<Route> a, List<Route> b) {
+            final List<Route> res = new ArrayList<>(a.size() + b.size());
+            int i = 0, j = 0;
+            while (i < a.size() && j < b.size()) {
+                res.add(a.get(i).order < b.get(j).order ? a.get(i++) : b.get(j++));
+            }
+            res.addAll(a.subList(i, a.size()));
+            res.addAll(b.subList(j, b.size()));
+            return res;
+        }
+    }
+}
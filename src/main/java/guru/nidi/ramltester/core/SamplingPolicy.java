@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.model.RamlRequest;
+import org.raml.model.Action;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which requests are checked.
+ * The decision is taken before any body is read, so skipped requests cost almost nothing.
+ */
+public abstract class SamplingPolicy {
+    private final AtomicLong sampled = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    /**
+     * @return a policy checking every request.
+     */
+    public static SamplingPolicy all() {
+        return new SamplingPolicy() {
+            @Override
+            protected boolean accept(RamlChecker checker, RamlRequest request) {
+                return true;
+            }
+
+            @Override
+            public String toString() {
+                return "SamplingPolicy{all}";
+            }
+        };
+    }
+
+    /**
+     * @return a policy checking every n-th request.
+     */
+    public static SamplingPolicy oneIn(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        final AtomicLong count = new AtomicLong();
+        return new SamplingPolicy() {
+            @Override
+            protected boolean accept(RamlChecker checker, RamlRequest request) {
+                return count.getAndIncrement() % n == 0;
+            }
+
+            @Override
+            public String toString() {
+                return "SamplingPolicy{1 in " + n + "}";
+            }
+        };
+    }
+
+    /**
+     * @return a policy checking at most {@code rate} requests per second.
+     */
+    public static SamplingPolicy perSecond(final double rate) {
+        final TokenBucket bucket = new TokenBucket(rate);
+        return new SamplingPolicy() {
+            @Override
+            protected boolean accept(RamlChecker checker, RamlRequest request) {
+                return bucket.take();
+            }
+
+            @Override
+            public String toString() {
+                return "SamplingPolicy{" + rate + " per second}";
+            }
+        };
+    }
+
+    /**
+     * @return a policy checking at most {@code rate} requests per second for every action.
+     * Requests not matching any action share one limit.
+     * The limits are kept by method and resource uri, so they survive a reloaded RAML without keeping the old one alive.
+     */
+    public static SamplingPolicy perActionPerSecond(final double rate) {
+        final TokenBucket undefined = new TokenBucket(rate);
+        final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        return new SamplingPolicy() {
+            @Override
+            protected boolean accept(RamlChecker checker, RamlRequest request) {
+                return accept(checker.findActionOrNull(request));
+            }
+
+            @Override
+            protected boolean accept(RamlChecker.Route route) {
+                return accept(route.getAction());
+            }
+
+            private boolean accept(Action action) {
+                if (action == null) {
+                    return undefined.take();
+                }
+                final String key = action.getType() + " " + action.getResource().getUri();
+                TokenBucket bucket = buckets.get(key);
+                if (bucket == null) {
+                    final TokenBucket created = new TokenBucket(rate);
+                    bucket = buckets.putIfAbsent(key, created);
+                    if (bucket == null) {
+                        bucket = created;
+                    }
+                }
+                return bucket.take();
+            }
+
+            @Override
+            public String toString() {
+                return "SamplingPolicy{" + rate + " per second and action}";
+            }
+        };
+    }
+
+    protected abstract boolean accept(RamlChecker checker, RamlRequest request);
+
+    /**
+     * Decides on a request that has already been routed, so that policies needing the action don't route it again.
+     */
+    protected boolean accept(RamlChecker.Route route) {
+        return accept(route.getChecker(), route.getRequest());
+    }
+
+    public boolean sample(RamlChecker checker, RamlRequest request) {
+        return count(accept(checker, request));
+    }
+
+    public boolean sample(RamlChecker.Route route) {
+        return count(accept(route));
+    }
+
+    private boolean count(boolean accepted) {
+        if (accepted) {
+            sampled.incrementAndGet();
+            return true;
+        }
+        skipped.incrementAndGet();
+        return false;
+    }
+
+    public long getSampled() {
+        return sampled.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    private static final class TokenBucket {
+        private final double rate;
+        private final double capacity;
+        private double tokens;
+        private long last;
+
+        TokenBucket(double rate) {
+            if (rate <= 0) {
+                throw new IllegalArgumentException("rate must be positive");
+            }
+            this.rate = rate;
+            this.capacity = Math.max(1, rate);
+            this.tokens = capacity;
+            this.last = System.nanoTime();
+        }
+
+        synchronized boolean take() {
+            final long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - last) * rate / 1e9);
+            last = now;
+            if (tokens >= 1) {
+                tokens--;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import guru.nidi.ramltester.util.IoUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread safe cache of compiled schemas, keyed by the text of the schema.
+ * A named schema and an inline schema with the same text share the same entry.
+ * The least recently used schemas are evicted if there are more than the maximum size.
+ */
+public final class SchemaCache<T> {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Cache<String, T> schemas;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SchemaCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public SchemaCache(long maximumSize) {
+        schemas = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public interface Compiler<T, E extends Exception> {
+        T compile(Reader schema) throws IOException, E;
+    }
+
+    public <E extends Exception> T get(Reader schema, Compiler<T, E> compiler) throws IOException, E {
+        final String text = IoUtils.readIntoString(schema);
+        final T cached = schemas.getIfPresent(text);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        final T compiled = compiler.compile(new NamedReader(text, schema.toString()));
+        final T existing = schemas.asMap().putIfAbsent(text, compiled);
+        return existing == null ? compiled : existing;
+    }
+
+    /**
+     * Compiles the schema if it is not cached yet.
+     * Invalid schemas are ignored, they are reported when they are used.
+     */
+    public <E extends Exception> void precompile(Reader schema, Compiler<T, E> compiler) {
+        try (final Reader s = schema) {
+            get(s, compiler);
+        } catch (Exception e) {
+            //ignore, it's reported when the schema is used
+        }
+    }
+
+    public long size() {
+        return schemas.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public void clear() {
+        schemas.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaCache{" +
+                "size=" + schemas.size() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.InvalidMediaTypeException;
+import guru.nidi.ramltester.util.MediaType;
+import org.raml.model.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static guru.nidi.ramltester.core.CheckerHelper.findSchemaValidator;
+import static guru.nidi.ramltester.core.CheckerHelper.resolveSchema;
+
+/**
+ * Compiles all schemas used by request and response bodies, including the responses of security schemes,
+ * with the {@link CachingSchemaValidator}s,
+ * so that the first request using a schema does not have to pay for it.
+ */
+public final class SchemaPrecompiler {
+    private final Raml raml;
+    private final List<SchemaValidator> schemaValidators;
+
+    public SchemaPrecompiler(Raml raml, List<SchemaValidator> schemaValidators) {
+        this.raml = raml;
+        this.schemaValidators = schemaValidators;
+    }
+
+    public void precompile() {
+        precompileResources(raml.getResources());
+        for (final Map<String, SecurityScheme> schemes : raml.getSecuritySchemes()) {
+            for (final SecurityScheme scheme : schemes.values()) {
+                if (scheme.getDescribedBy() != null) {
+                    precompileResponses(scheme.getDescribedBy().getResponses());
+                }
+            }
+        }
+    }
+
+    private void precompileResources(Map<String, Resource> resources) {
+        for (final Resource resource : resources.values()) {
+            for (final Action action : resource.getActions().values()) {
+                precompileBodies(action.getBody());
+                precompileResponses(action.getResponses());
+            }
+            precompileResources(resource.getResources());
+        }
+    }
+
+    private void precompileResponses(Map<String, Response> responses) {
+        if (responses == null) {
+            return;
+        }
+        for (final Response response : responses.values()) {
+            precompileBodies(response.getBody());
+        }
+    }
+
+    private void precompileBodies(Map<String, MimeType> bodies) {
+        if (bodies == null) {
+            return;
+        }
+        for (final MimeType mimeType : bodies.values()) {
+            if (mimeType.getSchema() != null && mimeType.getType() != null) {
+                precompile(mimeType);
+            }
+        }
+    }
+
+    private void precompile(MimeType mimeType) {
+        try {
+            final SchemaValidator validator = findSchemaValidator(schemaValidators, MediaType.valueOf(mimeType.getType()));
+            if (validator instanceof CachingSchemaValidator) {
+                ((CachingSchemaValidator) validator).precompile(resolveSchema(raml, mimeType.getSchema()));
+            }
+        } catch (InvalidMediaTypeException e) {
+            //ignore, it's reported by the validator
+        }
+    }
+}
@@ -22,19 +22,30 @@ import org.raml.model.parameter.QueryParameter;
 
 import java.util.*;
 
+import static guru.nidi.ramltester.core.CheckerHelper.mergeMaps;
+
 /**
- *
+ * The security schemes of an action, resolved once when the definition is loaded.
+ * The parameters and responses of each scheme are merged with the ones of the action.
  */
 class SecurityExtractor {
-    private final Raml raml;
     private final List<SecurityScheme> schemes;
+    private final RamlViolations violations;
+    private final Map<SecurityScheme, SchemeData> schemeData = new IdentityHashMap<>();
 
-    public SecurityExtractor(Raml raml, Action action, RamlViolations violations) {
-        this.raml = raml;
+    public SecurityExtractor(Raml raml, Action action, RamlViolations definitionViolations) {
+        violations = new RamlViolations();
         schemes = new SchemeFinder(raml, violations).securedBy(action);
+        violations.addAll(definitionViolations);
+        for (final SecurityScheme scheme : schemes) {
+            if (!schemeData.containsKey(scheme)) {
+                schemeData.put(scheme, new SchemeData(action, scheme));
+            }
+        }
     }
 
-    public void check(RamlViolations violations) {
+    public static RamlViolations checkDefinitions(Raml raml) {
+        final RamlViolations violations = new RamlViolations();
         for (final Map<String, SecurityScheme> schemeMap : raml.getSecuritySchemes()) {
             for (final SecurityScheme scheme : schemeMap.values()) {
                 final SecuritySchemeType type = SecuritySchemeType.byName(scheme.getType());
@@ -43,30 +54,62 @@ class SecurityExtractor {
                 }
             }
         }
+        return violations;
+    }
+
+    /**
+     * Adds the violations found in the definition of the used security schemes.
+     */
+    public void addViolations(RamlViolations target) {
+        target.addAll(violations);
     }
 
     public List<SecurityScheme> getSchemes() {
         return schemes;
     }
 
-    public Map<String, QueryParameter> queryParameters(SecurityScheme scheme) {
+    public ParameterIndex queryParameters(SecurityScheme scheme) {
+        return schemeData.get(scheme).queryParameters;
+    }
+
+    public ParameterIndex headers(SecurityScheme scheme) {
+        return schemeData.get(scheme).headers;
+    }
+
+    public Map<String, Response> responses(SecurityScheme scheme) {
+        return schemeData.get(scheme).responses;
+    }
+
+    private static Map<String, QueryParameter> schemeQueryParameters(SecurityScheme scheme) {
         return scheme.getDescribedBy() == null
                 ? Collections.<String, QueryParameter>emptyMap()
                 : scheme.getDescribedBy().getQueryParameters();
     }
 
-    public Map<String, Header> headers(SecurityScheme scheme) {
+    private static Map<String, Header> schemeHeaders(SecurityScheme scheme) {
         return scheme.getDescribedBy() == null
                 ? Collections.<String, Header>emptyMap()
                 : scheme.getDescribedBy().getHeaders();
     }
 
-    public Map<String, Response> responses(SecurityScheme scheme) {
+    private static Map<String, Response> schemeResponses(SecurityScheme scheme) {
         return scheme.getDescribedBy() == null
                 ? Collections.<String, Response>emptyMap()
                 : scheme.getDescribedBy().getResponses();
     }
 
+    private static final class SchemeData {
+        final ParameterIndex queryParameters;
+        final ParameterIndex headers;
+        final Map<String, Response> responses;
+
+        SchemeData(Action action, SecurityScheme scheme) {
+            queryParameters = ParameterIndex.ofSingle(mergeMaps(action.getQueryParameters(), schemeQueryParameters(scheme)), true);
+            headers = ParameterIndex.ofSingle(mergeMaps(action.getHeaders(), schemeHeaders(scheme)), false);
+            responses = mergeMaps(action.getResponses(), schemeResponses(scheme));
+        }
+    }
+
     private static final class SchemeFinder {
         private static final SecurityScheme NULL_SCHEMA = new SecurityScheme();
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.Message;
+import org.raml.model.parameter.AbstractParam;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The facets of a string parameter: enum, pattern, minLength and maxLength.
+ */
+final class StringValidator {
+    private static final Logger log = LoggerFactory.getLogger(StringValidator.class);
+
+    private final List<String> enumeration;
+    private final Set<String> enumerationSet;
+    private final String pattern;
+    private final JsRegex.Regex regex;
+    private final Integer minLength;
+    private final Integer maxLength;
+
+    StringValidator(AbstractParam param) {
+        enumeration = param.getEnumeration() == null ? null : new ArrayList<>(param.getEnumeration());
+        enumerationSet = enumeration == null ? null : new HashSet<>(enumeration);
+        pattern = param.getPattern();
+        regex = pattern == null ? null : JsRegex.regex(pattern);
+        minLength = param.getMinLength();
+        maxLength = param.getMaxLength();
+    }
+
+    public boolean isValid(String value) {
+        if (enumerationSet != null && !enumerationSet.contains(value)) {
+            return false;
+        }
+        if (regex != null) {
+            try {
+                if (!regex.matches(value)) {
+                    return false;
+                }
+            } catch (PatternSyntaxException e) {
+                return false;
+            }
+        }
+        return (minLength == null || value.length() >= minLength)
+                && (maxLength == null || value.length() <= maxLength);
+    }
+
+    public void check(String value, Message detail, RamlViolations violations) {
+        violations.addIf(enumerationSet != null && !enumerationSet.contains(value),
+                detail.withMessageParam("enum.invalid", enumeration));
+        try {
+            violations.addIf(regex != null && !regex.matches(value),
+                    detail.withMessageParam("pattern.invalid", pattern));
+        } catch (PatternSyntaxException e) {
+            log.warn("Could not execute regex '" + pattern, e);
+        }
+        violations.addIf(minLength != null && value.length() < minLength,
+                detail.withMessageParam("length.tooSmall", minLength));
+        violations.addIf(maxLength != null && value.length() > maxLength,
+                detail.withMessageParam("length.tooBig", maxLength));
+    }
+}
@@ -44,14 +44,19 @@ public final class UsageBuilder {
     }
 
     public static Usage usage(Raml raml, List<RamlReport> reports) {
-        final Usage usage = new Usage();
-        createTotalUsage(usage, raml.getResources());
+        final Usage usage = totalUsage(raml);
         for (final RamlReport report : reports) {
             usage.add(report.getUsage());
         }
         return usage;
     }
 
+    static Usage totalUsage(Raml raml) {
+        final Usage usage = new Usage();
+        createTotalUsage(usage, raml.getResources());
+        return usage;
+    }
+
     private static void createTotalUsage(Usage usage, Map<String, Resource> resources) {
         for (final Map.Entry<String, Resource> resourceEntry : resources.entrySet()) {
             resourceUsage(usage, resourceEntry.getValue());
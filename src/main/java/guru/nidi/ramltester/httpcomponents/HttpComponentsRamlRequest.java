@@ -29,6 +29,11 @@ public class HttpComponentsRamlRequest extends HttpComponentsRamlMessage impleme
     private final String path;
     private final String url;
     private final HttpRequest request;
+    private Values queryValues;
+    private Values formValues;
+    private Values headerValues;
+    private byte[] content;
+    private boolean contentRead;
 
     public HttpComponentsRamlRequest(HttpHost host, HttpRequest request) {
         this.request = request;
@@ -54,18 +59,26 @@ public class HttpComponentsRamlRequest extends HttpComponentsRamlMessage impleme
 
     @Override
     public Values getQueryValues() {
-        final UriComponents uriComponents = UriComponents.fromHttpUrl(request.getRequestLine().getUri());
-        return uriComponents.getQueryParameters();
+        if (queryValues == null) {
+            queryValues = UriComponents.fromHttpUrl(request.getRequestLine().getUri()).getQueryParameters();
+        }
+        return queryValues;
     }
 
     @Override
     public Values getFormValues() {
-        return new FormDecoder().decode(this);
+        if (formValues == null) {
+            formValues = new FormDecoder().decode(this);
+        }
+        return formValues;
     }
 
     @Override
     public Values getHeaderValues() {
-        return headerValuesOf(request);
+        if (headerValues == null) {
+            headerValues = headerValuesOf(request);
+        }
+        return headerValues;
     }
 
     @Override
@@ -75,8 +88,12 @@ public class HttpComponentsRamlRequest extends HttpComponentsRamlMessage impleme
 
     @Override
     public byte[] getContent() {
-        return (request instanceof HttpEntityEnclosingRequest)
-                ? contentOf(buffered((HttpEntityEnclosingRequest) request).getEntity())
-                : null;
+        if (!contentRead) {
+            content = (request instanceof HttpEntityEnclosingRequest)
+                    ? contentOf(buffered((HttpEntityEnclosingRequest) request).getEntity())
+                    : null;
+            contentRead = true;
+        }
+        return content;
     }
 }
@@ -24,6 +24,9 @@ import org.apache.http.HttpResponse;
  */
 public class HttpComponentsRamlResponse extends HttpComponentsRamlMessage implements RamlResponse {
     private final HttpResponse response;
+    private Values headerValues;
+    private byte[] content;
+    private boolean contentRead;
 
     public HttpComponentsRamlResponse(HttpResponse response) {
         this.response = response;
@@ -41,11 +44,18 @@ public class HttpComponentsRamlResponse extends HttpComponentsRamlMessage implem
 
     @Override
     public byte[] getContent() {
-        return contentOf(buffered(response).getEntity());
+        if (!contentRead) {
+            content = contentOf(buffered(response).getEntity());
+            contentRead = true;
+        }
+        return content;
     }
 
     @Override
     public Values getHeaderValues() {
-        return headerValuesOf(response);
+        if (headerValues == null) {
+            headerValues = headerValuesOf(response);
+        }
+        return headerValues;
     }
 }
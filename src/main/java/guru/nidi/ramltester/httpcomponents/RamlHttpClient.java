@@ -74,6 +74,9 @@ public class RamlHttpClient implements HttpClient, Closeable {
     public HttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
         reportStore.storeReport(null);
         final HttpComponentsRamlRequest ramlRequest = new HttpComponentsRamlRequest(target, request);
+        if (!checker.sample(ramlRequest)) {
+            return notSending ? DUMMY_RESPONSE : delegate.execute(target, request, context);
+        }
         final HttpResponse response;
         final RamlReport report;
         if (notSending) {
@@ -98,6 +101,9 @@ public class RamlHttpClient implements HttpClient, Closeable {
     public HttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
         reportStore.storeReport(null);
         final HttpComponentsRamlRequest ramlRequest = new HttpComponentsRamlRequest(request);
+        if (!checker.sample(ramlRequest)) {
+            return notSending ? DUMMY_RESPONSE : delegate.execute(request, context);
+        }
         final HttpResponse response;
         final RamlReport report;
         if (notSending) {
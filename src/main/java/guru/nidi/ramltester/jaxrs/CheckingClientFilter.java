@@ -22,6 +22,8 @@ import java.io.IOException;
  *
  */
 class CheckingClientFilter implements ClientRequestFilter, ClientResponseFilter {
+    private static final String SAMPLED = "raml.sampled";
+
     private final CheckingWebTarget target;
 
     public CheckingClientFilter(CheckingWebTarget target) {
@@ -30,13 +32,17 @@ class CheckingClientFilter implements ClientRequestFilter, ClientResponseFilter
 
     @Override
     public void filter(ClientRequestContext requestContext) throws IOException {
-        if (!(requestContext.getEntityStream() instanceof SavingOutputStream)) {
+        final boolean sampled = target.sample(new JaxrsContextRamlRequest(requestContext));
+        requestContext.setProperty(SAMPLED, sampled);
+        if (sampled && !(requestContext.getEntityStream() instanceof SavingOutputStream)) {
             requestContext.setEntityStream(new SavingOutputStream(requestContext.getEntityStream()));
         }
     }
 
     @Override
     public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
-        target.check(new JaxrsContextRamlRequest(requestContext), new JaxrsContextRamlResponse(responseContext));
+        if (Boolean.TRUE.equals(requestContext.getProperty(SAMPLED))) {
+            target.check(new JaxrsContextRamlRequest(requestContext), new JaxrsContextRamlResponse(responseContext));
+        }
     }
 }
@@ -44,6 +44,10 @@ public class CheckingWebTarget implements WebTarget {
         target.register(new CheckingClientFilter(this));
     }
 
+    boolean sample(RamlRequest request) {
+        return checker.sample(request);
+    }
+
     void check(RamlRequest request, RamlResponse response) {
         report = checker.check(request, response);
         aggregator.addReport(report);
@@ -28,6 +28,9 @@ import javax.ws.rs.client.ClientRequestContext;
 public class JaxrsContextRamlRequest extends JaxrsContextRamlMessage implements RamlRequest {
     private final ClientRequestContext context;
     private final UriComponents uriComponents;
+    private Values formValues;
+    private Values headerValues;
+    private byte[] content;
 
     public JaxrsContextRamlRequest(ClientRequestContext context) {
         this.context = context;
@@ -51,12 +54,18 @@ public class JaxrsContextRamlRequest extends JaxrsContextRamlMessage implements
 
     @Override
     public Values getFormValues() {
-        return new FormDecoder().decode(this);
+        if (formValues == null) {
+            formValues = new FormDecoder().decode(this);
+        }
+        return formValues;
     }
 
     @Override
     public Values getHeaderValues() {
-        return headersOf(context.getHeaders());
+        if (headerValues == null) {
+            headerValues = headersOf(context.getHeaders());
+        }
+        return headerValues;
     }
 
     @Override
@@ -66,9 +75,12 @@ public class JaxrsContextRamlRequest extends JaxrsContextRamlMessage implements
 
     @Override
     public byte[] getContent() {
-        if (context.getEntityStream() instanceof SavingOutputStream) {
-            return ((SavingOutputStream) context.getEntityStream()).getSaved();
+        if (content == null) {
+            if (!(context.getEntityStream() instanceof SavingOutputStream)) {
+                throw new IllegalStateException("Request data was not saved");
+            }
+            content = ((SavingOutputStream) context.getEntityStream()).getSaved();
         }
-        throw new IllegalStateException("Request data was not saved");
+        return content;
     }
 }
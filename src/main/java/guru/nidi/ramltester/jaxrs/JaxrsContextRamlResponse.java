@@ -30,6 +30,7 @@ import java.io.IOException;
 public class JaxrsContextRamlResponse extends JaxrsContextRamlMessage implements RamlResponse {
     private final ClientResponseContext context;
     private final byte[] content;
+    private Values headerValues;
 
     public JaxrsContextRamlResponse(ClientResponseContext context) {
         this.context = context;
@@ -48,7 +49,10 @@ public class JaxrsContextRamlResponse extends JaxrsContextRamlMessage implements
 
     @Override
     public Values getHeaderValues() {
-        return headersOf(context.getHeaders());
+        if (headerValues == null) {
+            headerValues = headersOf(context.getHeaders());
+        }
+        return headerValues;
     }
 
     @Override
@@ -35,8 +35,12 @@ public class RamlValidationFilter implements Filter {
     public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
                            FilterContext filterContext) {
         final Response response = filterContext.next(requestSpec, responseSpec);
-        final RamlReport report = ramlChecker.check(new RestAssuredRamlRequest(requestSpec, filterContext), new RestAssuredRamlResponse(response));
-        reportStore.storeReport(report);
+        final RestAssuredRamlRequest ramlRequest = new RestAssuredRamlRequest(requestSpec, filterContext);
+        if (ramlChecker.sample(ramlRequest)) {
+            reportStore.storeReport(ramlChecker.check(ramlRequest, new RestAssuredRamlResponse(response)));
+        } else {
+            reportStore.storeReport(null);
+        }
         return response;
 
     }
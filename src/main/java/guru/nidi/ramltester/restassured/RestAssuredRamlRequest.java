@@ -23,6 +23,10 @@ import guru.nidi.ramltester.model.Values;
 
 class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlRequest {
     private final FilterableRequestSpecification requestSpec;
+    private Values headerValues;
+    private Values queryValues;
+    private Values formValues;
+    private byte[] content;
     private final FilterContext filterContext;
 
     RestAssuredRamlRequest(FilterableRequestSpecification requestSpec, FilterContext filterContext) {
@@ -32,7 +36,10 @@ class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlReque
 
     @Override
     public Values getHeaderValues() {
-        return headersToValues(requestSpec.getHeaders());
+        if (headerValues == null) {
+            headerValues = headersToValues(requestSpec.getHeaders());
+        }
+        return headerValues;
     }
 
     @Override
@@ -47,7 +54,10 @@ class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlReque
             return null;
         }
         if (body instanceof String) {
-            return ((String) body).getBytes();
+            if (content == null) {
+                content = ((String) body).getBytes();
+            }
+            return content;
         }
         if (body instanceof byte[]) {
             return (byte[]) body;
@@ -69,11 +79,17 @@ class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlReque
 
     @Override
     public Values getQueryValues() {
-        return mapToValues(requestSpec.getQueryParams());
+        if (queryValues == null) {
+            queryValues = mapToValues(requestSpec.getQueryParams());
+        }
+        return queryValues;
     }
 
     @Override
     public Values getFormValues() {
-        return mapToValues(requestSpec.getFormParams());
+        if (formValues == null) {
+            formValues = mapToValues(requestSpec.getFormParams());
+        }
+        return formValues;
     }
 }
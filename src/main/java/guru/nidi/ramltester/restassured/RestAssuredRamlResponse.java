@@ -21,6 +21,8 @@ import guru.nidi.ramltester.model.Values;
 
 class RestAssuredRamlResponse extends RestAssuredRamlMessage implements RamlResponse {
     private final Response response;
+    private Values headerValues;
+    private byte[] content;
 
     RestAssuredRamlResponse(Response response) {
         this.response = response;
@@ -33,7 +35,10 @@ class RestAssuredRamlResponse extends RestAssuredRamlMessage implements RamlResp
 
     @Override
     public Values getHeaderValues() {
-        return headersToValues(response.getHeaders());
+        if (headerValues == null) {
+            headerValues = headersToValues(response.getHeaders());
+        }
+        return headerValues;
     }
 
     @Override
@@ -43,6 +48,9 @@ class RestAssuredRamlResponse extends RestAssuredRamlMessage implements RamlResp
 
     @Override
     public byte[] getContent() {
-        return response.getBody().asByteArray();
+        if (content == null) {
+            content = response.getBody().asByteArray();
+        }
+        return content;
     }
 }
\ No newline at end of file
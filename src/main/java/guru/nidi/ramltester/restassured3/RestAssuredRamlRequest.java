@@ -22,6 +22,10 @@ import io.restassured.specification.FilterableRequestSpecification;
 
 class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlRequest {
     private final FilterableRequestSpecification requestSpec;
+    private Values headerValues;
+    private Values queryValues;
+    private Values formValues;
+    private byte[] content;
 
     RestAssuredRamlRequest(FilterableRequestSpecification requestSpec) {
         this.requestSpec = requestSpec;
@@ -29,7 +33,10 @@ class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlReque
 
     @Override
     public Values getHeaderValues() {
-        return headersToValues(requestSpec.getHeaders());
+        if (headerValues == null) {
+            headerValues = headersToValues(requestSpec.getHeaders());
+        }
+        return headerValues;
     }
 
     @Override
@@ -44,7 +51,10 @@ class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlReque
             return null;
         }
         if (body instanceof String) {
-            return ((String) body).getBytes();
+            if (content == null) {
+                content = ((String) body).getBytes();
+            }
+            return content;
         }
         if (body instanceof byte[]) {
             return (byte[]) body;
@@ -66,11 +76,17 @@ class RestAssuredRamlRequest extends RestAssuredRamlMessage implements RamlReque
 
     @Override
     public Values getQueryValues() {
-        return mapToValues(requestSpec.getQueryParams());
+        if (queryValues == null) {
+            queryValues = mapToValues(requestSpec.getQueryParams());
+        }
+        return queryValues;
     }
 
     @Override
     public Values getFormValues() {
-        return mapToValues(requestSpec.getFormParams());
+        if (formValues == null) {
+            formValues = mapToValues(requestSpec.getFormParams());
+        }
+        return formValues;
     }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.servlet;
+
+import guru.nidi.ramltester.core.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.*;
+import java.io.IOException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks requests outside of the request thread.
+ * After the response has been committed, a snapshot of request and response is queued
+ * and checked by a bounded pool of worker threads.
+ * The reports are delivered to the given {@link ReportStore}, typically an {@link AggregatingReportStore}.
+ */
+public class AsyncServletTester {
+    public enum DropPolicy {
+        /**
+         * Drop the new request if the queue is full.
+         */
+        DROP_NEWEST,
+        /**
+         * Drop the oldest queued request to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Check the new request in the request thread if the queue is full.
+         */
+        CHECK_IN_CALLER
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncServletTester.class);
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final RamlChecker checker;
+    private final ReportStore reportStore;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong checked = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AsyncServletTester(RamlChecker checker, ReportAggregator aggregator, int queueSize) {
+        this(checker, new AggregatingReportStore(new ThreadLocalReportStore(), aggregator), 1, queueSize, DropPolicy.DROP_NEWEST);
+    }
+
+    public AsyncServletTester(RamlChecker checker, ReportStore reportStore, int threads, int queueSize, DropPolicy dropPolicy) {
+        this.checker = checker;
+        this.reportStore = reportStore;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new DaemonThreadFactory(), rejectionHandler(dropPolicy));
+    }
+
+    /**
+     * @return if the request will be checked, i.e. it has been sampled and not dropped.
+     */
+    public boolean testAgainst(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        final ServletExchange exchange = ServletExchange.filter(checker, request, response, chain);
+        if (exchange == null) {
+            return false;
+        }
+        exchange.response.flushBuffer();
+        return submit(exchange.route, new RamlRequestSnapshot(exchange.request), new RamlResponseSnapshot(exchange.response));
+    }
+
+    private boolean submit(final RamlChecker.Route route, final RamlRequestSnapshot request, final RamlResponseSnapshot response) {
+        enqueued.incrementAndGet();
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    check(route, request, response);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void check(RamlChecker.Route route, RamlRequestSnapshot request, RamlResponseSnapshot response) {
+        try {
+            reportStore.storeReport(checker.check(route, request, response));
+        } catch (RamlViolationException e) {
+            reportStore.storeReport(e.getReport());
+        } catch (RuntimeException e) {
+            log.warn("Could not check request", e);
+            failed.incrementAndGet();
+            return;
+        }
+        checked.incrementAndGet();
+    }
+
+    private RejectedExecutionHandler rejectionHandler(DropPolicy dropPolicy) {
+        switch (dropPolicy) {
+            case DROP_OLDEST:
+                return new RunningExecutorHandler() {
+                    @Override
+                    protected void queueFull(Runnable r, ThreadPoolExecutor executor) {
+                        if (executor.getQueue().poll() != null) {
+                            dropped.incrementAndGet();
+                        }
+                        executor.execute(r);
+                    }
+                };
+            case CHECK_IN_CALLER:
+                return new RunningExecutorHandler() {
+                    @Override
+                    protected void queueFull(Runnable r, ThreadPoolExecutor executor) {
+                        r.run();
+                    }
+                };
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    /**
+     * @return the number of requests that have been handed over to be checked, including dropped ones.
+     */
+    public long getEnqueued() {
+        return enqueued.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getChecked() {
+        return checked.get();
+    }
+
+    /**
+     * @return the number of checks that ended with an unexpected exception.
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public int getQueueLength() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting new requests, the already queued ones are still checked.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    private abstract static class RunningExecutorHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Tester is shut down");
+            }
+            queueFull(r, executor);
+        }
+
+        protected abstract void queueFull(Runnable r, ThreadPoolExecutor executor);
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final int pool = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger thread = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread t = new Thread(r, "raml-tester-" + pool + "-" + thread.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.servlet;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Keeps only the first bytes written to it.
+ */
+class LimitedByteArrayOutputStream extends ByteArrayOutputStream {
+    private final int limit;
+
+    public LimitedByteArrayOutputStream(int limit) {
+        super(limit);
+        this.limit = limit;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        if (count < limit) {
+            super.write(b);
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        final int n = Math.min(len, limit - count);
+        if (n > 0) {
+            super.write(b, off, n);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.servlet;
+
+import guru.nidi.ramltester.model.RamlMessage;
+import guru.nidi.ramltester.model.Values;
+
+/**
+ *
+ */
+abstract class RamlMessageSnapshot implements RamlMessage {
+    private final String contentType;
+    private final Values headers;
+    private final byte[] content;
+
+    protected RamlMessageSnapshot(String contentType, Values headers, byte[] content) {
+        this.contentType = contentType;
+        this.headers = headers;
+        this.content = content;
+    }
+
+    @Override
+    public Values getHeaderValues() {
+        return headers;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public byte[] getContent() {
+        return content;
+    }
+}
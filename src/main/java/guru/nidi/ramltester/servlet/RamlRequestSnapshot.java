@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.servlet;
+
+import guru.nidi.ramltester.model.RamlRequest;
+import guru.nidi.ramltester.model.Values;
+import guru.nidi.ramltester.util.FormDecoder;
+import guru.nidi.ramltester.util.UriComponents;
+
+/**
+ * A copy of a request which stays valid after the container has recycled the original request.
+ */
+class RamlRequestSnapshot extends RamlMessageSnapshot implements RamlRequest {
+    private final String requestUrl;
+    private final String servletPath;
+    private final String pathInfo;
+    private final String method;
+    private final String queryString;
+    private Values queryValues;
+    private Values formValues;
+
+    RamlRequestSnapshot(ServletRamlRequest request) {
+        super(request.getContentType(), request.getHeaderValues(), request.getContent());
+        requestUrl = request.getRequestURL().toString();
+        servletPath = request.getServletPath();
+        pathInfo = request.getPathInfo() == null ? "" : request.getPathInfo();
+        method = request.getMethod();
+        queryString = request.getQueryString();
+    }
+
+    @Override
+    public String getRequestUrl(String baseUri, boolean includeServletPath) {
+        return baseUri == null
+                ? requestUrl
+                : (baseUri + (includeServletPath ? servletPath : "") + pathInfo);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public Values getQueryValues() {
+        if (queryValues == null) {
+            queryValues = UriComponents.parseQuery(queryString);
+        }
+        return queryValues;
+    }
+
+    @Override
+    public Values getFormValues() {
+        if (formValues == null) {
+            formValues = new FormDecoder().decode(this);
+        }
+        return formValues;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.servlet;
+
+import guru.nidi.ramltester.model.RamlResponse;
+import guru.nidi.ramltester.model.Values;
+
+/**
+ * A copy of a response which stays valid after the container has recycled the original response.
+ */
+class RamlResponseSnapshot extends RamlMessageSnapshot implements RamlResponse {
+    private final int status;
+
+    RamlResponseSnapshot(ServletRamlResponse response) {
+        super(response.getContentType(), copy(response.getHeaderValues()), response.getContent());
+        status = response.getStatus();
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    private static Values copy(Values values) {
+        final Values copy = new Values();
+        copy.addValues(values);
+        return copy;
+    }
+}
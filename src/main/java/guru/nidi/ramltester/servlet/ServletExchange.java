@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.servlet;
+
+import guru.nidi.ramltester.core.ContentCapture;
+import guru.nidi.ramltester.core.RamlChecker;
+
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * A request that has passed the filter chain, with as much content captured as its route needs to be checked.
+ */
+final class ServletExchange {
+    final RamlChecker.Route route;
+    final ServletRamlRequest request;
+    final ServletRamlResponse response;
+
+    private ServletExchange(RamlChecker.Route route, ServletRamlRequest request, ServletRamlResponse response) {
+        this.route = route;
+        this.request = request;
+        this.response = response;
+    }
+
+    /**
+     * @return the exchange or null if the request is no http request or has not been sampled and was passed on unwrapped.
+     */
+    static ServletExchange filter(RamlChecker checker, ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
+            final RamlChecker.Route route = checker.route(new ServletRamlRequest((HttpServletRequest) request, false));
+            if (checker.sample(route)) {
+                final ContentCapture capture = checker.contentCapture(route);
+                final ServletRamlRequest httpRequest = new ServletRamlRequest((HttpServletRequest) request, capture.request);
+                final ServletRamlResponse httpResponse = new ServletRamlResponse((HttpServletResponse) response, capture.response);
+                chain.doFilter(httpRequest, httpResponse);
+                return new ServletExchange(route, httpRequest, httpResponse);
+            }
+        }
+        chain.doFilter(request, response);
+        return null;
+    }
+}
@@ -30,10 +30,24 @@ import java.util.Enumeration;
  *
  */
 public class ServletRamlRequest extends HttpServletRequestWrapper implements RamlRequest {
+    private final boolean captureContent;
     private byte[] content;
+    private FirstByteInputStream uncaptured;
+    private Values queryValues;
+    private Values formValues;
+    private Values headerValues;
 
     public ServletRamlRequest(HttpServletRequest delegate) {
+        this(delegate, true);
+    }
+
+    /**
+     * @param captureContent if false, the content is not buffered but only streamed through.
+     *                       Just the first byte is kept to tell if there is any content.
+     */
+    public ServletRamlRequest(HttpServletRequest delegate, boolean captureContent) {
         super(delegate);
+        this.captureContent = captureContent;
     }
 
     private HttpServletRequest request() {
@@ -51,17 +65,26 @@ public class ServletRamlRequest extends HttpServletRequestWrapper implements Ram
 
     @Override
     public Values getQueryValues() {
-        return UriComponents.parseQuery(request().getQueryString());
+        if (queryValues == null) {
+            queryValues = UriComponents.parseQuery(request().getQueryString());
+        }
+        return queryValues;
     }
 
     @Override
     public Values getFormValues() {
-        return new FormDecoder().decode(this);
+        if (formValues == null) {
+            formValues = new FormDecoder().decode(this);
+        }
+        return formValues;
     }
 
     @Override
     public Values getHeaderValues() {
-        return getHeaderValues(request());
+        if (headerValues == null) {
+            headerValues = getHeaderValues(request());
+        }
+        return headerValues;
     }
 
     public static Values getHeaderValues(HttpServletRequest request) {
@@ -79,6 +102,9 @@ public class ServletRamlRequest extends HttpServletRequestWrapper implements Ram
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
+        if (!captureContent) {
+            return new DelegatingServletInputStream(uncaptured());
+        }
         readContentIfNeeded();
         return new DelegatingServletInputStream(new ByteArrayInputStream(content));
     }
@@ -86,18 +112,27 @@ public class ServletRamlRequest extends HttpServletRequestWrapper implements Ram
 
     @Override
     public BufferedReader getReader() throws IOException {
-        readContentIfNeeded();
+        final InputStream stream;
+        if (captureContent) {
+            readContentIfNeeded();
+            stream = new ByteArrayInputStream(content);
+        } else {
+            stream = uncaptured();
+        }
         final InputStreamReader in = getCharacterEncoding() == null
-                ? new InputStreamReader(new ByteArrayInputStream(content))
-                : new InputStreamReader(new ByteArrayInputStream(content), getCharacterEncoding());
+                ? new InputStreamReader(stream)
+                : new InputStreamReader(stream, getCharacterEncoding());
         return new BufferedReader(in);
     }
 
     @Override
     public byte[] getContent() {
         try {
+            if (!captureContent) {
+                return uncaptured().firstByte();
+            }
             readContentIfNeeded();
-            return IoUtils.readIntoByteArray(getInputStream());
+            return content;
         } catch (IOException e) {
             throw new RamlCheckerException("Could not read content", e);
         }
@@ -108,4 +143,48 @@ public class ServletRamlRequest extends HttpServletRequestWrapper implements Ram
             content = IoUtils.readIntoByteArray(super.getInputStream());
         }
     }
+
+    private FirstByteInputStream uncaptured() throws IOException {
+        if (uncaptured == null) {
+            uncaptured = new FirstByteInputStream(super.getInputStream());
+        }
+        return uncaptured;
+    }
+
+    private static class FirstByteInputStream extends FilterInputStream {
+        private static final int UNKNOWN = -2;
+        private int first = UNKNOWN;
+
+        FirstByteInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (first == UNKNOWN) {
+                first = b;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (first == UNKNOWN && n != 0) {
+                first = n < 0 ? -1 : b[off] & 0xff;
+            }
+            return n;
+        }
+
+        /**
+         * @return an array containing the first byte of the stream, reading it if the stream has not been read yet.
+         */
+        byte[] firstByte() throws IOException {
+            if (first == UNKNOWN) {
+                first = super.read();
+            }
+            return first < 0 ? new byte[0] : new byte[]{(byte) first};
+        }
+    }
 }
@@ -33,16 +33,29 @@ import java.util.zip.GZIPInputStream;
  */
 public class ServletRamlResponse extends HttpServletResponseWrapper implements RamlResponse {
     private String characterEncoding = "iso-8859-1";
-    private final ByteArrayOutputStream content = new ByteArrayOutputStream(1024);
+    private final boolean captureContent;
+    private final ByteArrayOutputStream content;
 
     private PrintWriter writer;
     private ServletOutputStream outputStream;
 
     private int status = HttpServletResponse.SC_OK;
     private final Values headers = new Values();
+    private byte[] contentData;
+    private int contentSize;
 
     public ServletRamlResponse(HttpServletResponse delegate) {
+        this(delegate, true);
+    }
+
+    /**
+     * @param captureContent if false, the content is not copied but only streamed through.
+     *                       Just the first byte is kept to tell if there is any content.
+     */
+    public ServletRamlResponse(HttpServletResponse delegate, boolean captureContent) {
         super(delegate);
+        this.captureContent = captureContent;
+        content = captureContent ? new ByteArrayOutputStream(1024) : new LimitedByteArrayOutputStream(1);
     }
 
     @Override
@@ -124,12 +137,31 @@ public class ServletRamlResponse extends HttpServletResponseWrapper implements R
         return outputStream;
     }
 
+    /**
+     * Also flushes the writer and stream given out by this response, so that their content is recorded.
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+        super.flushBuffer();
+    }
+
     @Override
     public byte[] getContent() {
         try {
             flushBuffer();
-            final byte[] data = content.toByteArray();
-            return "gzip".equalsIgnoreCase(getHeader("Content-Encoding")) ? gunzip(data) : data;
+            //the content is only copied again if something has been written since the last call
+            if (contentData == null || contentSize != content.size()) {
+                contentSize = content.size();
+                final byte[] data = content.toByteArray();
+                contentData = captureContent && "gzip".equalsIgnoreCase(getHeader("Content-Encoding")) ? gunzip(data) : data;
+            }
+            return contentData;
         } catch (IOException e) {
             throw new RamlCheckerException("Problem getting content", e);
         }
@@ -19,8 +19,6 @@ import guru.nidi.ramltester.core.RamlChecker;
 import guru.nidi.ramltester.core.RamlReport;
 
 import javax.servlet.*;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 /**
@@ -34,12 +32,7 @@ public class ServletTester {
     }
 
     public RamlReport testAgainst(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
-        if (request instanceof HttpServletRequest && response instanceof HttpServletResponse) {
-            final ServletRamlRequest httpRequest = new ServletRamlRequest((HttpServletRequest) request);
-            final ServletRamlResponse httpResponse = new ServletRamlResponse((HttpServletResponse) response);
-            chain.doFilter(httpRequest, httpResponse);
-            return checker.check(httpRequest, httpResponse);
-        }
-        return null;
+        final ServletExchange exchange = ServletExchange.filter(checker, request, response, chain);
+        return exchange == null ? null : checker.check(exchange.route, exchange.request, exchange.response);
     }
 }
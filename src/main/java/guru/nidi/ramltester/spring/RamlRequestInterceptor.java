@@ -41,6 +41,11 @@ public class RamlRequestInterceptor implements ClientHttpRequestInterceptor {
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
         reportStore.storeReport(null);
         final SpringHttpRamlRequest ramlRequest = new SpringHttpRamlRequest(request, body);
+        if (!checker.sample(ramlRequest)) {
+            return notSending
+                    ? new MockClientHttpResponse((byte[]) null, HttpStatus.NO_CONTENT)
+                    : execution.execute(request, body);
+        }
         final RamlReport report;
         final ClientHttpResponse response;
         if (notSending) {
@@ -31,6 +31,8 @@ import java.io.InputStream;
  */
 public class SpringClientHttpRamlResponse extends SpringHttpRamlMessage implements ClientHttpResponse, RamlResponse {
     private final ClientHttpResponse response;
+    private Values headerValues;
+    private byte[] content;
 
     public SpringClientHttpRamlResponse(ClientHttpResponse response) {
         this.response = response;
@@ -53,7 +55,10 @@ public class SpringClientHttpRamlResponse extends SpringHttpRamlMessage implemen
     @Override
     public byte[] getContent() {
         try {
-            return IoUtils.readIntoByteArray(getBody());
+            if (content == null) {
+                content = IoUtils.readIntoByteArray(getBody());
+            }
+            return content;
         } catch (IOException e) {
             throw new RamlCheckerException("Problem getting content", e);
         }
@@ -91,6 +96,9 @@ public class SpringClientHttpRamlResponse extends SpringHttpRamlMessage implemen
 
     @Override
     public Values getHeaderValues() {
-        return headerValuesOf(response.getHeaders());
+        if (headerValues == null) {
+            headerValues = headerValuesOf(response.getHeaders());
+        }
+        return headerValues;
     }
 }
@@ -28,6 +28,8 @@ public class SpringHttpRamlRequest extends SpringHttpRamlMessage implements Raml
     private final HttpRequest request;
     private final byte[] body;
     private final UriComponents uriComponents;
+    private Values formValues;
+    private Values headerValues;
 
     public SpringHttpRamlRequest(HttpRequest request, byte[] body) {
         this.request = request;
@@ -52,12 +54,18 @@ public class SpringHttpRamlRequest extends SpringHttpRamlMessage implements Raml
 
     @Override
     public Values getFormValues() {
-        return new FormDecoder().decode(this);
+        if (formValues == null) {
+            formValues = new FormDecoder().decode(this);
+        }
+        return formValues;
     }
 
     @Override
     public Values getHeaderValues() {
-        return headerValuesOf(request.getHeaders());
+        if (headerValues == null) {
+            headerValues = headerValuesOf(request.getHeaders());
+        }
+        return headerValues;
     }
 
     @Override
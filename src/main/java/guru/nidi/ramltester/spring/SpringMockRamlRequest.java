@@ -35,6 +35,10 @@ import java.util.Map;
  */
 public class SpringMockRamlRequest implements RamlRequest {
     private final MockHttpServletRequest delegate;
+    private Values queryValues;
+    private Values formValues;
+    private Values headerValues;
+    private byte[] content;
 
     public SpringMockRamlRequest(MockHttpServletRequest delegate) {
         this.delegate = delegate;
@@ -56,16 +60,26 @@ public class SpringMockRamlRequest implements RamlRequest {
 
     @Override
     public Values getQueryValues() {
-        final String q = delegate.getQueryString();
-        try {
-            return UriComponents.parseQuery(q == null ? null : UriUtils.decode(q, "utf-8"));
-        } catch (UnsupportedEncodingException e) {
-            throw new AssertionError(e);
+        if (queryValues == null) {
+            final String q = delegate.getQueryString();
+            try {
+                queryValues = UriComponents.parseQuery(q == null ? null : UriUtils.decode(q, "utf-8"));
+            } catch (UnsupportedEncodingException e) {
+                throw new AssertionError(e);
+            }
         }
+        return queryValues;
     }
 
     @Override
     public Values getFormValues() {
+        if (formValues == null) {
+            formValues = formValues();
+        }
+        return formValues;
+    }
+
+    private Values formValues() {
         final Values values = new Values(delegate.getParameterMap());
         if (delegate instanceof MockMultipartHttpServletRequest) {
             for (final Map.Entry<String, List<MultipartFile>> entry : ((MockMultipartHttpServletRequest) delegate).getMultiFileMap().entrySet()) {
@@ -79,7 +93,10 @@ public class SpringMockRamlRequest implements RamlRequest {
 
     @Override
     public Values getHeaderValues() {
-        return ServletRamlRequest.getHeaderValues(delegate);
+        if (headerValues == null) {
+            headerValues = ServletRamlRequest.getHeaderValues(delegate);
+        }
+        return headerValues;
     }
 
     @Override
@@ -90,7 +107,10 @@ public class SpringMockRamlRequest implements RamlRequest {
     @Override
     public byte[] getContent() {
         try {
-            return IoUtils.readIntoByteArray(delegate.getInputStream());
+            if (content == null) {
+                content = IoUtils.readIntoByteArray(delegate.getInputStream());
+            }
+            return content;
         } catch (IOException e) {
             throw new RamlCheckerException("Could not read request body", e);
         }
@@ -24,6 +24,8 @@ import org.springframework.mock.web.MockHttpServletResponse;
  */
 public class SpringMockRamlResponse implements RamlResponse {
     private final MockHttpServletResponse delegate;
+    private Values headerValues;
+    private byte[] content;
 
     public SpringMockRamlResponse(MockHttpServletResponse delegate) {
         this.delegate = delegate;
@@ -41,15 +43,20 @@ public class SpringMockRamlResponse implements RamlResponse {
 
     @Override
     public byte[] getContent() {
-        return delegate.getContentAsByteArray();
+        if (content == null) {
+            content = delegate.getContentAsByteArray();
+        }
+        return content;
     }
 
     @Override
     public Values getHeaderValues() {
-        final Values headers = new Values();
-        for (final String name : delegate.getHeaderNames()) {
-            headers.addValues(name, delegate.getHeaders(name));
+        if (headerValues == null) {
+            headerValues = new Values();
+            for (final String name : delegate.getHeaderNames()) {
+                headerValues.addValues(name, delegate.getHeaders(name));
+            }
         }
-        return headers;
+        return headerValues;
     }
 }
@@ -31,8 +31,8 @@ public final class IoUtils {
         try {
             final StringBuilder sb = new StringBuilder();
             final char[] buf = new char[1000];
-            while (reader.ready()) {
-                final int read = reader.read(buf);
+            int read;
+            while ((read = reader.read(buf)) > 0) {
                 sb.append(buf, 0, read);
             }
             return sb.toString();
@@ -16,10 +16,13 @@
 package guru.nidi.ramltester.util;
 
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import java.util.*;
 
 /**
- *
+ * Immutable, so parsed instances are cached by their string representation.
  */
 public final class MediaType {
     public static final Comparator<MediaType> QUALITY_COMPARATOR = new Comparator<MediaType>() {
@@ -29,6 +32,8 @@ public final class MediaType {
         }
     };
 
+    private static final Cache<String, MediaType> CACHE = CacheBuilder.newBuilder().maximumSize(1000).build();
+
     public static final MediaType
             JSON = valueOf("application/json"),
             FORM_URL_ENCODED = valueOf("application/x-www-form-urlencoded"),
@@ -45,17 +50,32 @@ public final class MediaType {
     private final String type;
     private final String subtype;
     private final Map<String, String> parameters;
+    private final double quality;
+    //instances are shared through the cache, so the lazily computed parts must be safely published
+    private volatile String[] parts;
 
     private MediaType(String type, String subtype, Map<String, String> parameters) {
         this.type = type;
         this.subtype = subtype;
         this.parameters = parameters;
+        final String q = unquote(parameters.get("q"));
+        this.quality = q == null ? 1 : Double.parseDouble(q);
     }
 
     public static MediaType valueOf(String mimeType) {
         if (mimeType == null || mimeType.length() == 0) {
             throw new InvalidMediaTypeException(mimeType, new Message("mediaType.empty"));
         }
+        final MediaType cached = CACHE.getIfPresent(mimeType);
+        if (cached != null) {
+            return cached;
+        }
+        final MediaType parsed = parse(mimeType);
+        CACHE.put(mimeType, parsed);
+        return parsed;
+    }
+
+    private static MediaType parse(String mimeType) {
         final String[] parts = tokenizeToStringArray(mimeType, ";");
 
         String fullType = parts[0].trim();
@@ -102,8 +122,7 @@ public final class MediaType {
     }
 
     public double getQualityParameter() {
-        final String q = unquote(getParameter("q"));
-        return q == null ? 1 : Double.parseDouble(q);
+        return quality;
     }
 
     private static void checkParameter(String mimeType, String key, String value) {
@@ -161,6 +180,15 @@ public final class MediaType {
     }
 
     private String[] parts() {
+        String[] res = parts;
+        if (res == null) {
+            res = calcParts();
+            parts = res;
+        }
+        return res;
+    }
+
+    private String[] calcParts() {
         final String suffix = getSuffix();
         if (suffix == null) {
             return new String[]{type, subtype, "*", "*", parameters.toString()};
@@ -38,6 +38,13 @@ public class Message {
     protected final String key;
     protected final Object[] params;
 
+    /**
+     * A message parameter which can change after being added to a message.
+     */
+    public interface MutableParam {
+        Object snapshot();
+    }
+
     public Message(String key, Object... params) {
         this.key = key;
         this.params = params;
@@ -55,6 +62,31 @@ public class Message {
         return new Message(key, addParam(param));
     }
 
+    /**
+     * @return a message which is not affected by later changes of its parameters.
+     */
+    public Message snapshot() {
+        Object[] snapshot = params;
+        for (int i = 0; i < params.length; i++) {
+            final Object param = params[i];
+            final Object frozen = param instanceof Message
+                    ? ((Message) param).snapshot()
+                    : param instanceof MutableParam ? ((MutableParam) param).snapshot() : param;
+            //identity, a param only needs to be replaced if its snapshot is another object
+            if (frozen != param) {
+                if (snapshot == params) {
+                    snapshot = params.clone();
+                }
+                snapshot[i] = frozen;
+            }
+        }
+        return snapshot == params ? this : copy(snapshot);
+    }
+
+    protected Message copy(Object[] params) {
+        return new Message(key, params);
+    }
+
     private Object[] addParam(Object param) {
         final Object[] newParams = new Object[params.length + 1];
         System.arraycopy(params, 0, newParams, 0, params.length);
@@ -73,6 +105,11 @@ public class Message {
             super(key, params);
         }
 
+        @Override
+        protected Message copy(Object[] params) {
+            return new InnerMessage(key, params);
+        }
+
         @Override
         public Message withParam(Object p) {
             final Object[] newParams = new Object[params.length];
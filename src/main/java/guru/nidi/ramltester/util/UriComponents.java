@@ -18,11 +18,11 @@ package guru.nidi.ramltester.util;
 import guru.nidi.ramltester.model.Values;
 
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
- *
+ * The parts of an HTTP URL.
+ * URLs are parsed by a single scan over the string which only creates the substrings of the found parts.
+ * It accepts the same URLs as the regex {@code (?i)(http|https):(//(([^@/]*)@)?(\[[\p{XDigit}:.]*[%\p{Alnum}]*\]|[^\[/?#:]*)(:(\d*))?)?([^?#]*)(\?(.*))?}.
  */
 public final class UriComponents {
     private final String scheme;
@@ -31,39 +31,7 @@ public final class UriComponents {
     private final Integer port;
     private final String path;
     private final String queryString;
-    private final Values queryParameters;
-
-    private static final class HttpUrl {
-        private static final String
-                HTTP = "(?i)(http|https):",
-                USERINFO = "([^@/]*)",
-                HOST_IPV4 = "[^\\[/?#:]*",
-                HOST_IPV6 = "\\[[\\p{XDigit}:\\.]*[%\\p{Alnum}]*\\]",
-                HOST = "(" + HOST_IPV6 + "|" + HOST_IPV4 + ")",
-                PORT = "(\\d*)",
-                PATH = "([^?#]*)",
-                LAST = "(.*)";
-
-        public static final Pattern
-                PATTERN = Pattern.compile("^" + HTTP + "(//(" + USERINFO + "@)?" + HOST + "(:" + PORT + ")?" + ")?" + PATH + "(\\?" + LAST + ")?");
-
-        public static final int
-                GROUP_SCHEME = 1,
-                GROUP_USER = 4,
-                GROUP_HOST = 5,
-                GROUP_PORT = 7,
-                GROUP_PATH = 8,
-                GROUP_QUERY = 10;
-    }
-
-    private static final class QueryParam {
-        public static final Pattern PATTERN = Pattern.compile("([^&=]+)(=?)([^&]+)?");
-
-        public static final int
-                GROUP_NAME = 1,
-                GROUP_EQUAL = 2,
-                GROUP_VALUE = 3;
-    }
+    private volatile Values queryParameters;
 
     private UriComponents(String scheme, String userInfo, String host, Integer port, String path, String query) {
         this.scheme = scheme;
@@ -72,41 +40,178 @@ public final class UriComponents {
         this.port = port;
         this.path = path;
         this.queryString = query;
-        this.queryParameters = parseQuery(query);
     }
 
     public static UriComponents fromHttpUrl(String httpUrl) {
-        final Matcher m = HttpUrl.PATTERN.matcher(httpUrl);
-        if (m.matches()) {
-            final String scheme = m.group(HttpUrl.GROUP_SCHEME) == null ? null : m.group(HttpUrl.GROUP_SCHEME).toLowerCase(Locale.ENGLISH);
-            final String host = m.group(HttpUrl.GROUP_HOST);
-            if (scheme != null && scheme.length() > 0 && (host == null || host.length() == 0)) {
-                throw new IllegalArgumentException("[" + httpUrl + "] is not a valid HTTP URL");
-            }
-            final String portString = m.group(HttpUrl.GROUP_PORT);
-            final Integer port = (portString != null && portString.length() > 0)
-                    ? Integer.parseInt(portString)
-                    : null;
-            final String path = m.group(HttpUrl.GROUP_PATH);
-            final String query = m.group(HttpUrl.GROUP_QUERY);
-            final String userInfo = m.group(HttpUrl.GROUP_USER);
-
-            return new UriComponents(scheme, userInfo, host, port, path, query);
-        } else {
+        final int authority = schemeEnd(httpUrl);
+        if (authority < 0 || !httpUrl.startsWith("//", authority)) {
+            throw new IllegalArgumentException("[" + httpUrl + "] is not a valid HTTP URL");
+        }
+        final String scheme = httpUrl.substring(0, authority - 1).toLowerCase(Locale.ENGLISH);
+        final int userEnd = userInfoEnd(httpUrl, authority + 2);
+        UriComponents res = null;
+        if (userEnd >= 0) {
+            res = parseAuthority(httpUrl, scheme, httpUrl.substring(authority + 2, userEnd), userEnd + 1);
+        }
+        if (res == null) {
+            res = parseAuthority(httpUrl, scheme, null, authority + 2);
+        }
+        if (res == null) {
             throw new IllegalArgumentException("[" + httpUrl + "] is not a valid HTTP URL");
         }
+        return res;
     }
 
+    /**
+     * @return the position after the colon of the scheme or -1 if the url does not start with http: or https:
+     */
+    private static int schemeEnd(String url) {
+        if (!url.regionMatches(true, 0, "http", 0, 4)) {
+            return -1;
+        }
+        if (url.startsWith(":", 4)) {
+            return 5;
+        }
+        if (url.regionMatches(true, 4, "s:", 0, 2)) {
+            return 6;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the position of the @ ending the user info or -1 if there is no user info
+     */
+    private static int userInfoEnd(String url, int start) {
+        for (int i = start; i < url.length(); i++) {
+            final char c = url.charAt(i);
+            if (c == '@') {
+                return i;
+            }
+            if (c == '/') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the components or null if the rest of the url after the user info does not match
+     * @throws IllegalArgumentException if it matches, but the host is empty
+     */
+    private static UriComponents parseAuthority(String url, String scheme, String userInfo, int start) {
+        final int len = url.length();
+        final int pathEnd = pathEnd(url, start);
+        if (pathEnd < len && (url.charAt(pathEnd) == '#' || containsLineTerminator(url, pathEnd + 1))) {
+            return null;
+        }
+        int pos = ipv6End(url, start);
+        if (pos < 0) {
+            pos = start;
+            while (pos < len && "[/?#:".indexOf(url.charAt(pos)) < 0) {
+                pos++;
+            }
+        }
+        if (pos == start) {
+            throw new IllegalArgumentException("[" + url + "] is not a valid HTTP URL");
+        }
+        final String host = url.substring(start, pos);
+        Integer port = null;
+        if (pos < len && url.charAt(pos) == ':') {
+            final int portStart = ++pos;
+            while (pos < len && isDigit(url.charAt(pos))) {
+                pos++;
+            }
+            if (pos > portStart) {
+                port = Integer.parseInt(url.substring(portStart, pos));
+            }
+        }
+        final String query = pathEnd < len ? url.substring(pathEnd + 1) : null;
+        return new UriComponents(scheme, userInfo, host, port, url.substring(pos, pathEnd), query);
+    }
+
+    /**
+     * @return the position of the ? or # ending the path or the length of the url if there is none.
+     * Neither can be part of the host or port, so this is also where the path ends.
+     */
+    private static int pathEnd(String url, int start) {
+        int pos = start;
+        while (pos < url.length() && url.charAt(pos) != '?' && url.charAt(pos) != '#') {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * @return the position after an IPv6 host like [::1] or -1 if there is none
+     */
+    private static int ipv6End(String url, int start) {
+        final int len = url.length();
+        if (start >= len || url.charAt(start) != '[') {
+            return -1;
+        }
+        int pos = start + 1;
+        while (pos < len && (isHexDigit(url.charAt(pos)) || url.charAt(pos) == ':' || url.charAt(pos) == '.')) {
+            pos++;
+        }
+        while (pos < len && (isAlnum(url.charAt(pos)) || url.charAt(pos) == '%')) {
+            pos++;
+        }
+        return pos < len && url.charAt(pos) == ']' ? pos + 1 : -1;
+    }
+
+    //the query is matched by .* which does not include line terminators
+    private static boolean containsLineTerminator(String s, int start) {
+        for (int i = start; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isAlnum(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Splits a query string into its parameters.
+     * A parameter without = has the value null, one with = but without value the value "".
+     * Names and values are not decoded.
+     */
     public static Values parseQuery(String query) {
         final Values q = new Values();
         if (query != null) {
-            final Matcher m = QueryParam.PATTERN.matcher(query);
-            while (m.find()) {
-                final String name = m.group(QueryParam.GROUP_NAME);
-                final String eq = m.group(QueryParam.GROUP_EQUAL);
-                final String value = m.group(QueryParam.GROUP_VALUE);
-                final String emptyValue = eq != null && eq.length() > 0 ? "" : null;
-                q.addValue(name, value == null ? emptyValue : value);
+            final int len = query.length();
+            int pos = 0;
+            while (pos < len) {
+                final char c = query.charAt(pos);
+                if (c == '&' || c == '=') {
+                    pos++;
+                } else {
+                    final int nameStart = pos;
+                    while (pos < len && query.charAt(pos) != '&' && query.charAt(pos) != '=') {
+                        pos++;
+                    }
+                    final String name = query.substring(nameStart, pos);
+                    String value = null;
+                    if (pos < len && query.charAt(pos) == '=') {
+                        final int valueStart = ++pos;
+                        while (pos < len && query.charAt(pos) != '&') {
+                            pos++;
+                        }
+                        value = query.substring(valueStart, pos);
+                    }
+                    q.addValue(name, value);
+                }
             }
         }
         return q;
@@ -148,6 +253,9 @@ public final class UriComponents {
     }
 
     public Values getQueryParameters() {
+        if (queryParameters == null) {
+            queryParameters = parseQuery(queryString);
+        }
         return queryParameters;
     }
 }
@@ -20,6 +20,8 @@ import guru.nidi.loader.use.xml.LoaderLSResourceResolver;
 import guru.nidi.ramltester.core.*;
 import guru.nidi.ramltester.util.MediaType;
 import guru.nidi.ramltester.util.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.xml.sax.*;
 
 import javax.xml.XMLConstants;
@@ -29,15 +31,28 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  *
  */
-public class JavaXmlSchemaValidator implements SchemaValidator {
+public class JavaXmlSchemaValidator implements CachingSchemaValidator {
+    private static final Logger log = LoggerFactory.getLogger(JavaXmlSchemaValidator.class);
     private static final MediaType APPLICATION_XML = MediaType.valueOf("application/xml");
     private static final MediaType TEXT_XML = MediaType.valueOf("text/xml");
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
 
     private final Loader loader;
+    private final SchemaCache<PooledSchema> cache = new SchemaCache<>();
+    private final SchemaCache.Compiler<PooledSchema, SAXException> compiler = new SchemaCache.Compiler<PooledSchema, SAXException>() {
+        @Override
+        public PooledSchema compile(Reader schema) throws SAXException {
+            final SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schemaFactory.setResourceResolver(new LoaderLSResourceResolver(loader));
+            return new PooledSchema(schemaFactory.newSchema(new StreamSource(schema)));
+        }
+    };
 
     private JavaXmlSchemaValidator(Loader loader) {
         this.loader = loader;
@@ -59,20 +74,22 @@ public class JavaXmlSchemaValidator implements SchemaValidator {
 
     @Override
     public void validate(Reader content, Reader schema, RamlViolations violations, Message message) {
-        final SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        try {
-            schemaFactory.setResourceResolver(new LoaderLSResourceResolver(loader));
-            final Schema s = schemaFactory.newSchema(new StreamSource(schema));
-            final Validator validator = s.newValidator();
-            final ViolationsWritingErrorHandler errorHandler = new ViolationsWritingErrorHandler();
-            validator.setErrorHandler(errorHandler);
-            validator.validate(new StreamSource(content));
-            if (!errorHandler.getExceptions().isEmpty()) {
-                String msg = "";
-                for (final SAXParseException ex : errorHandler.getExceptions()) {
-                    msg += new Message("javaXmlSchemaValidator.message", ex.getLineNumber(), ex.getColumnNumber(), ex.getMessage());
+        try (final Reader s = schema) {
+            final PooledSchema pooled = cache.get(s, compiler);
+            final Validator validator = pooled.acquire();
+            try {
+                final ViolationsWritingErrorHandler errorHandler = new ViolationsWritingErrorHandler();
+                validator.setErrorHandler(errorHandler);
+                validator.validate(new StreamSource(content));
+                if (!errorHandler.getExceptions().isEmpty()) {
+                    String msg = "";
+                    for (final SAXParseException ex : errorHandler.getExceptions()) {
+                        msg += new Message("javaXmlSchemaValidator.message", ex.getLineNumber(), ex.getColumnNumber(), ex.getMessage());
+                    }
+                    violations.add(message.withParam(msg), new XmlSchemaViolationCause(errorHandler.getExceptions()));
                 }
-                violations.add(message.withParam(msg), new XmlSchemaViolationCause(errorHandler.getExceptions()));
+            } finally {
+                pooled.release(validator);
             }
         } catch (SAXException e) {
             violations.add(message.withParam(new Message("schema.invalid", e.getMessage())), new XmlSchemaViolationCause(e));
@@ -81,6 +98,41 @@ public class JavaXmlSchemaValidator implements SchemaValidator {
         }
     }
 
+    @Override
+    public SchemaCache<?> getSchemaCache() {
+        return cache;
+    }
+
+    @Override
+    public void precompile(Reader schema) {
+        cache.precompile(schema, compiler);
+    }
+
+    /**
+     * A compiled {@link Schema} is thread safe, its {@link Validator}s are not.
+     * So the validators are pooled and every validation uses its own.
+     */
+    private static final class PooledSchema {
+        private final Schema schema;
+        private final BlockingQueue<Validator> validators = new ArrayBlockingQueue<>(POOL_SIZE);
+
+        PooledSchema(Schema schema) {
+            this.schema = schema;
+        }
+
+        Validator acquire() {
+            final Validator validator = validators.poll();
+            return validator == null ? schema.newValidator() : validator;
+        }
+
+        void release(Validator validator) {
+            validator.reset();
+            if (!validators.offer(validator)) {
+                log.debug("Validator pool is full, dropping the validator");
+            }
+        }
+    }
+
     private static class ViolationsWritingErrorHandler implements ErrorHandler {
         private final List<SAXParseException> exceptions = new ArrayList<>();
 
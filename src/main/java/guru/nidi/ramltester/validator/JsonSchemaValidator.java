@@ -36,9 +36,16 @@ import java.io.Reader;
 /**
  *
  */
-public class JsonSchemaValidator implements SchemaValidator {
-    private JsonSchemaFactory factory;
+public class JsonSchemaValidator implements CachingSchemaValidator {
+    private volatile JsonSchemaFactory factory;
     private final Loader loader;
+    private final SchemaCache<JsonSchema> cache = new SchemaCache<>();
+    private final SchemaCache.Compiler<JsonSchema, ProcessingException> compiler = new SchemaCache.Compiler<JsonSchema, ProcessingException>() {
+        @Override
+        public JsonSchema compile(Reader schema) throws IOException, ProcessingException {
+            return factory().getJsonSchema(JsonLoader.fromReader(schema));
+        }
+    };
 
     private JsonSchemaValidator(JsonSchemaFactory factory, Loader loader) {
         this.factory = factory;
@@ -63,6 +70,13 @@ public class JsonSchemaValidator implements SchemaValidator {
         return mediaType.isCompatibleWith(MediaType.JSON);
     }
 
+    private JsonSchemaFactory factory() {
+        if (factory == null) {
+            init();
+        }
+        return factory == null ? JsonSchemaFactory.byDefault() : factory;
+    }
+
     private synchronized void init() {
         if (loader != null && factory == null) {
             final LoadingConfigurationBuilder loadingConfig = LoadingConfiguration.newBuilder();
@@ -73,12 +87,20 @@ public class JsonSchemaValidator implements SchemaValidator {
         }
     }
 
+    @Override
+    public SchemaCache<JsonSchema> getSchemaCache() {
+        return cache;
+    }
+
+    @Override
+    public void precompile(Reader schema) {
+        cache.precompile(schema, compiler);
+    }
+
     @Override
     public void validate(Reader content, Reader schema, RamlViolations violations, Message message) {
-        init();
         try (final Reader s = schema) {
-            final JsonSchemaFactory factory = this.factory == null ? JsonSchemaFactory.byDefault() : this.factory;
-            final JsonSchema jsonSchema = factory.getJsonSchema(JsonLoader.fromReader(schema));
+            final JsonSchema jsonSchema = cache.get(s, compiler);
             final ProcessingReport report = jsonSchema.validate(JsonLoader.fromReader(content));
             if (!report.isSuccess()) {
                 String msg = "";
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.ramltester.core.*;
+import guru.nidi.ramltester.servlet.AsyncServletTester;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.*;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static guru.nidi.ramltester.core.UsageItem.RESOURCE;
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class AsyncServletTesterTest {
+    private static final RamlDefinition simple = RamlLoaders.fromClasspath(SimpleTest.class).load("simple.raml")
+            .assumingBaseUri("http://nidi.guru/raml/v1");
+
+    private static final FilterChain JSON_CHAIN = new FilterChain() {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            response.setContentType("application/json");
+            response.getWriter().print("\"json string\"");
+        }
+    };
+
+    @Test
+    public void checkOutsideOfRequest() throws Exception {
+        final ConcurrentReportAggregator aggregator = new ConcurrentReportAggregator(10);
+        final AsyncServletTester tester = simple.createAsyncServletTester(aggregator, 10);
+        assertTrue(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertTrue(tester.testAgainst(request("/data?param=bu"), new MockHttpServletResponse(), JSON_CHAIN));
+        tester.shutdown();
+        assertTrue(tester.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(2, tester.getEnqueued());
+        assertEquals(2, tester.getChecked());
+        assertEquals(0, tester.getDropped());
+        final AggregatedUsage aggregate = aggregator.getAggregate(simple);
+        assertEquals(2, aggregate.getReports());
+        assertEquals(1, aggregate.getRequestViolations());
+        assertFalse(RESOURCE.get(aggregate.getUsage()).contains("/data"));
+    }
+
+    @Test
+    public void dropNewest() throws Exception {
+        final BlockingStore store = new BlockingStore();
+        final AsyncServletTester tester = simple.createAsyncServletTester(store, 1, 1, AsyncServletTester.DropPolicy.DROP_NEWEST);
+        assertTrue(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertTrue(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertFalse(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        store.release.countDown();
+        tester.shutdown();
+        assertTrue(tester.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(3, tester.getEnqueued());
+        assertEquals(1, tester.getDropped());
+        assertEquals(2, tester.getChecked());
+    }
+
+    @Test
+    public void dropOldest() throws Exception {
+        final BlockingStore store = new BlockingStore();
+        final AsyncServletTester tester = simple.createAsyncServletTester(store, 1, 1, AsyncServletTester.DropPolicy.DROP_OLDEST);
+        assertTrue(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertTrue(tester.testAgainst(request("/data?param=1"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertTrue(tester.testAgainst(request("/data?param=2"), new MockHttpServletResponse(), JSON_CHAIN));
+        store.release.countDown();
+        tester.shutdown();
+        assertTrue(tester.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(3, tester.getEnqueued());
+        assertEquals(1, tester.getDropped());
+        assertEquals(2, tester.getChecked());
+        assertEquals("Query parameter 'param' on action(GET /data) is not defined",
+                store.getLastReport().getRequestViolations().asList().get(0).getMessage());
+    }
+
+    @Test
+    public void checkInCaller() throws Exception {
+        final BlockingStore store = new BlockingStore();
+        final AsyncServletTester tester = simple.createAsyncServletTester(store, 1, 1, AsyncServletTester.DropPolicy.CHECK_IN_CALLER);
+        assertTrue(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertTrue(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertTrue(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertEquals(1, tester.getChecked());
+        store.release.countDown();
+        tester.shutdown();
+        assertTrue(tester.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(3, tester.getEnqueued());
+        assertEquals(0, tester.getDropped());
+        assertEquals(3, tester.getChecked());
+    }
+
+    @Test
+    public void dropAfterShutdown() throws Exception {
+        final AsyncServletTester tester = simple.createAsyncServletTester(new ConcurrentReportAggregator(), 10);
+        tester.shutdown();
+        assertFalse(tester.testAgainst(request("/data"), new MockHttpServletResponse(), JSON_CHAIN));
+        assertEquals(1, tester.getDropped());
+    }
+
+    private static MockHttpServletRequest request(String url) {
+        final int pos = url.indexOf('?');
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", pos < 0 ? url : url.substring(0, pos));
+        request.setPathInfo(request.getRequestURI());
+        if (pos >= 0) {
+            request.setQueryString(url.substring(pos + 1));
+        }
+        return request;
+    }
+
+    private static class BlockingStore extends ThreadLocalReportStore {
+        final CountDownLatch release = new CountDownLatch(1);
+        private volatile RamlReport last;
+
+        @Override
+        public void storeReport(RamlReport report) {
+            if (Thread.currentThread().getName().startsWith("raml-tester")) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            last = report;
+        }
+
+        @Override
+        public RamlReport getLastReport() {
+            return last;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.loader.Loader;
+import guru.nidi.loader.url.UrlLoader;
+import guru.nidi.ramltester.util.IoUtils;
+import guru.nidi.ramltester.util.ServerTest;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static guru.nidi.ramltester.util.TestUtils.deleteRecursively;
+import static guru.nidi.ramltester.util.TestUtils.listFiles;
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class CachingLoaderTest extends ServerTest {
+    private static final AtomicInteger requests = new AtomicInteger();
+    private static final AtomicInteger transfers = new AtomicInteger();
+    private static volatile String content;
+    private static volatile long lastModified;
+
+    private File dir;
+
+    @Override
+    protected void init(Context ctx) {
+        Tomcat.addServlet(ctx, "resource", new ResourceServlet());
+        ctx.addServletMapping("/*", "resource");
+    }
+
+    @Before
+    public void reset() {
+        requests.set(0);
+        transfers.set(0);
+        content = "first";
+        lastModified = System.currentTimeMillis() - 10000;
+    }
+
+    @After
+    public void cleanUp() {
+        deleteRecursively(dir);
+    }
+
+    @Test
+    public void useCachedWithinTimeToLive() throws IOException {
+        final Loader loader = new CachingLoader(urlLoader());
+        assertEquals("first", read(loader.fetchResource("a.json", -1)));
+        assertEquals("first", read(loader.fetchResource("a.json", -1)));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void revalidateAfterTimeToLive() throws IOException {
+        final Loader loader = new CachingLoader(urlLoader()).timeToLive(0, TimeUnit.MILLISECONDS);
+        assertEquals("first", read(loader.fetchResource("a.json", -1)));
+        assertEquals("first", read(loader.fetchResource("a.json", -1)));
+        assertEquals(2, requests.get());
+        assertEquals("unchanged resource is not transferred again", 1, transfers.get());
+
+        content = "second";
+        lastModified = System.currentTimeMillis() + 5000;
+        assertEquals("second", read(loader.fetchResource("a.json", -1)));
+        assertEquals(3, requests.get());
+        assertEquals(2, transfers.get());
+    }
+
+    @Test
+    public void notModifiedSinceCaller() throws IOException {
+        final Loader loader = new CachingLoader(urlLoader());
+        assertEquals("first", read(loader.fetchResource("a.json", -1)));
+        assertNull(loader.fetchResource("a.json", System.currentTimeMillis()));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void storeOnDisk() throws IOException {
+        dir = Files.createTempDirectory("resources").toFile();
+        assertEquals("first", read(new CachingLoader(urlLoader()).onDisk(dir).fetchResource("a.json", -1)));
+        assertEquals(1, listFiles(dir).length);
+
+        content = "second";
+        assertEquals("a new loader uses the stored resource", "first", read(new CachingLoader(urlLoader()).onDisk(dir).fetchResource("a.json", -1)));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void keepStoredResourceInMemory() throws IOException {
+        dir = Files.createTempDirectory("resources").toFile();
+        assertEquals("first", read(new CachingLoader(urlLoader()).onDisk(dir).fetchResource("a.json", -1)));
+
+        final CachingLoader loader = new CachingLoader(urlLoader()).onDisk(dir);
+        assertEquals("first", read(loader.fetchResource("a.json", -1)));
+        for (final File file : listFiles(dir)) {
+            assertTrue(file.delete());
+        }
+        assertEquals("first", read(loader.fetchResource("a.json", -1)));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void ignoreCorruptStoredResource() throws IOException {
+        dir = Files.createTempDirectory("resources").toFile();
+        assertEquals("first", read(new CachingLoader(urlLoader()).onDisk(dir).fetchResource("a.json", -1)));
+        try (final DataOutputStream out = new DataOutputStream(new FileOutputStream(listFiles(dir)[0]))) {
+            out.writeInt(1);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(Integer.MAX_VALUE);
+        }
+
+        content = "second";
+        assertEquals("second", read(new CachingLoader(urlLoader()).onDisk(dir).fetchResource("a.json", -1)));
+    }
+
+    private Loader urlLoader() {
+        return new UrlLoader(baseUrlWithPort());
+    }
+
+    private String read(InputStream in) throws IOException {
+        return new String(IoUtils.readIntoByteArray(in), StandardCharsets.UTF_8);
+    }
+
+    private static class ResourceServlet extends HttpServlet {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse res) throws ServletException, IOException {
+            requests.incrementAndGet();
+            super.service(req, res);
+        }
+
+        @Override
+        protected long getLastModified(HttpServletRequest req) {
+            return lastModified;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse res) throws ServletException, IOException {
+            transfers.incrementAndGet();
+            res.setContentType("application/json");
+            res.getWriter().write(content);
+        }
+    }
+}
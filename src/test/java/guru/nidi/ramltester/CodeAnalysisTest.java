@@ -85,9 +85,7 @@ public class CodeAnalysisTest extends CodeAssertTest {
                 .because("arrays are only used internally",
                         In.locs("*Response", "*Request").ignore("EI_EXPOSE_REP", "EI_EXPOSE_REP2"))
                 .because("They are snippets",
-                        In.loc("guru.nidi.ramltester.snippets*").ignoreAll())
-                .because("it's class private and only used in 1 occasion",
-                        In.loc("CheckerHelper$ResourceMatch").ignore("EQ_COMPARETO_USE_OBJECT_EQUALS"));
+                        In.loc("guru.nidi.ramltester.snippets*").ignoreAll());
         return new FindBugsAnalyzer(AnalyzerConfig.maven().mainAndTest(), collector).analyze();
     }
 
@@ -107,25 +105,34 @@ public class CodeAnalysisTest extends CodeAssertTest {
                         In.clazz(RamlViolationMessage.class).ignore("ConfusingTernary", "LocalVariableCouldBeFinal"),
                         In.loc("UriComponents#getServer").ignore("NPathComplexity"))
                 .because("arrays are only used internally",
-                        In.locs("*Response", "*Request").ignore("MethodReturnsInternalArray", "ArrayIsStoredDirectly"))
+                        In.locs("*Response", "*Request", "*Snapshot").ignore("MethodReturnsInternalArray", "ArrayIsStoredDirectly"),
+                        In.loc("CachingLoader$Entry").ignore("ArrayIsStoredDirectly"))
                 .because("not urgent and too many occasions",
                         In.everywhere().ignore(
                                 "AvoidInstantiatingObjectsInLoops", "JUnitAssertionsShouldIncludeMessage", "JUnitTestContainsTooManyAsserts", "MethodArgumentCouldBeFinal"))
                 .because("it's plain wrong",
                         In.loc("UsageCollector").ignore("ClassWithOnlyPrivateConstructorsShouldBeFinal"))
                 .because("it's checked and correct",
-                        In.locs("RelativeJsonSchemaAwareRamlDocumentBuilder", "MediaType", "ServletRamlMessageTest").ignore("CompareObjectsWithEquals"),
+                        In.locs("RelativeJsonSchemaAwareRamlDocumentBuilder", "MediaType", "ServletRamlMessageTest", "Message").ignore("CompareObjectsWithEquals"),
                         In.locs("JsRegex", "MediaType").ignore("PreserveStackTrace"),
-                        In.locs("JsRegex", "Usage").ignore("AvoidCatchingGenericException"),
+                        In.locs("JsRegex", "Usage", "ReloadableRamlDefinition", "AsyncServletTester", "SchemaCache").ignore("AvoidCatchingGenericException"),
                         In.classes(UriTest.class, ParameterCheckerTest.class, MediaTypeTest.class).ignore("JUnitTestsShouldIncludeAssert"))
                 .because("it's style",
                         In.loc("RamlValidatorChecker").ignore("CollapsibleIfStatements"))
+                .because("it's the fluent entry point with one method per kind of loader and per option",
+                        In.loc("RamlLoaders").ignore("TooManyMethods"))
+                .because("hand written scanners are faster than regexes",
+                        In.locs("UriComponents", "NumberSyntax").ignore("CyclomaticComplexity", "NPathComplexity", "StdCyclomaticComplexity", "ModifiedCyclomaticComplexity"))
+                .because("a regex translator has one switch case per syntax element, splitting them up would only hide the grammar",
+                        In.loc("JsRegexTranslator").ignore("CyclomaticComplexity", "NPathComplexity", "StdCyclomaticComplexity", "ModifiedCyclomaticComplexity", "GodClass"))
                 .because("TODO",                 //TODO
-                        In.locs("ParameterChecker", "Usage", "MediaType").ignore("GodClass"),
+                        In.locs("ParameterChecker", "Usage", "MediaType", "RamlChecker").ignore("GodClass"),
                         In.locs("VariableMatcher", "MediaType").ignore("CyclomaticComplexity", "NPathComplexity"),
                         In.loc("ContentNegotiationChecker").ignore("AvoidDeeplyNestedIfStmts"))
                 .because("They are snippets",
                         In.loc("guru.nidi.ramltester.snippets*").ignoreAll())
+                .because("They are benchmarks",
+                        In.loc("guru.nidi.ramltester.benchmark*").ignoreAll())
                 .because("It's standard config",
                         In.loc("CodeCoverage").ignore("NoPackage"))
                 .because("is in test",
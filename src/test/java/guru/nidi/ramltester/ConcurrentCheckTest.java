@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.core.RamlViolationMessage;
+import guru.nidi.ramltester.spring.SpringMockRamlRequest;
+import guru.nidi.ramltester.spring.SpringMockRamlResponse;
+import org.junit.Test;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ *
+ */
+public class ConcurrentCheckTest extends HighlevelTestBase {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 300;
+
+    private final RamlChecker checker = RamlLoaders.fromClasspath(getClass()).load("query.raml")
+            .assumingBaseUri("http://nidi.guru/raml/v1")
+            .createTester();
+
+    @Test
+    public void sharedCheckerDoesNotMixReports() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        start.await();
+                        for (int i = 0; i < ITERATIONS; i++) {
+                            checkOnce(thread + "_" + i, i % 3);
+                        }
+                        return ITERATIONS;
+                    }
+                }));
+            }
+            start.countDown();
+            for (final Future<Integer> result : results) {
+                assertEquals(ITERATIONS, (int) result.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void checkOnce(String id, int kind) throws Exception {
+        switch (kind) {
+            case 0:
+                final RamlReport undefinedParam = check(get("/query?req=1&p" + id + "=1"), "\"ok\"");
+                assertViolations(undefinedParam.getRequestViolations().asList(), "Query parameter 'p" + id + "' on action(GET /query) is not defined");
+                assertViolations(undefinedParam.getResponseViolations().asList());
+                break;
+            case 1:
+                final RamlReport invalidBody = check(get("/query?req=" + id), "42");
+                assertViolations(invalidBody.getRequestViolations().asList());
+                assertEquals(1, invalidBody.getResponseViolations().size());
+                break;
+            default:
+                final RamlReport undefinedResource = check(get("/r" + id), "\"ok\"");
+                assertViolations(undefinedResource.getRequestViolations().asList(), "Resource '/r" + id + "' is not defined");
+                assertViolations(undefinedResource.getResponseViolations().asList());
+                break;
+        }
+    }
+
+    private RamlReport check(MockHttpServletRequestBuilder request, String body) throws Exception {
+        return checker.check(
+                new SpringMockRamlRequest(request.buildRequest(new MockServletContext())),
+                new SpringMockRamlResponse(jsonResponse(200, body)));
+    }
+
+    private void assertViolations(List<RamlViolationMessage> violations, String... messages) {
+        assertEquals(violations.toString(), messages.length, violations.size());
+        for (int i = 0; i < messages.length; i++) {
+            assertEquals(messages[i], violations.get(i).getMessage());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.ramltester.core.*;
+import guru.nidi.ramltester.util.Message;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.hamcrest.Matchers.either;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ConcurrentReportAggregatorTest {
+    @Test
+    public void simple() {
+        final ConcurrentReportAggregator aggregator = new ConcurrentReportAggregator();
+        aggregator.addReport(SimpleReport.report("simple.raml", "/data", "/d", "/"));
+        final Iterator<Map.Entry<String, Usage>> usages = aggregator.usages().iterator();
+        final Map.Entry<String, Usage> usageEntry = usages.next();
+        assertEquals("simple", usageEntry.getKey());
+        assertEquals(new HashSet<>(Arrays.asList("/mediaType", "/schema")),
+                usageEntry.getValue().getUnusedResources());
+        assertFalse(usages.hasNext());
+    }
+
+    @Test
+    public void clear() {
+        final ConcurrentReportAggregator aggregator = new ConcurrentReportAggregator();
+        aggregator.addReport(SimpleReport.report("simple.raml", "/data", "/d", "/"));
+        aggregator.clear();
+        assertFalse(aggregator.usages().iterator().hasNext());
+    }
+
+    @Test
+    public void multi() {
+        final ConcurrentReportAggregator aggregator = new ConcurrentReportAggregator();
+        aggregator.addReport(SimpleReport.report("simple.raml"));
+        aggregator.addReport(SimpleReport.report("header.raml"));
+        final Iterator<Map.Entry<String, Usage>> usages = aggregator.usages().iterator();
+        assertThat(usages.next().getKey(), either(equalTo("simple")).or(equalTo("header")));
+        assertThat(usages.next().getKey(), either(equalTo("simple")).or(equalTo("header")));
+        assertFalse(usages.hasNext());
+    }
+
+    @Test
+    public void countViolations() {
+        final ConcurrentReportAggregator aggregator = new ConcurrentReportAggregator();
+        final RamlReport report = SimpleReport.report("simple.raml", "/data");
+        report.getRequestViolations().add(new Message("resource.undefined", "/x"));
+        report.getResponseViolations().add(new Message("resource.undefined", "/y"));
+        aggregator.addReport(report);
+        aggregator.addReport(SimpleReport.report("simple.raml", "/d"));
+        final AggregatedUsage aggregate = aggregator.getAggregate(RamlLoaders.fromClasspath(SimpleTest.class).load("simple.raml"));
+        assertEquals(2, aggregate.getReports());
+        assertEquals(1, aggregate.getRequestViolations());
+        assertEquals(1, aggregate.getResponseViolations());
+        assertEquals(0, aggregate.getValidationViolations());
+    }
+
+    @Test
+    public void boundedSample() {
+        final ConcurrentReportAggregator aggregator = new ConcurrentReportAggregator(2);
+        final List<RamlReport> reports = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final RamlReport report = SimpleReport.report("simple.raml", "/data");
+            report.getRequestViolations().add(new Message("resource.undefined", "/" + i));
+            reports.add(report);
+            aggregator.addReport(report);
+        }
+        aggregator.addReport(SimpleReport.report("simple.raml", "/data"));
+        assertEquals(reports.subList(3, 5), aggregator.getSample());
+    }
+
+    @Test
+    public void concurrentSameAsMulti() throws Exception {
+        final ConcurrentReportAggregator aggregator = new ConcurrentReportAggregator();
+        final MultiReportAggregator multi = new MultiReportAggregator();
+        final String[][] resources = {{"/data"}, {"/d", "/"}, {"/data", "/mediaType"}};
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final int thread = t;
+            futures.add(executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 200; i++) {
+                        aggregator.addReport(SimpleReport.report("simple.raml", resources[(thread + i) % resources.length]));
+                    }
+                }
+            }));
+        }
+        for (int i = 0; i < 8 * 200; i++) {
+            multi.addReport(SimpleReport.report("simple.raml", resources[i % resources.length]));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        final RamlDefinition simple = RamlLoaders.fromClasspath(SimpleTest.class).load("simple.raml");
+        final Usage expected = multi.getUsage(simple);
+        final Usage actual = aggregator.getUsage(simple);
+        for (final UsageItem item : UsageItem.values()) {
+            assertEquals(item.get(expected), item.get(actual));
+        }
+        assertEquals(8 * 200, aggregator.getAggregate(simple).getReports());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.ramltester.core.ContentCapture;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.servlet.ServletRamlRequest;
+import guru.nidi.ramltester.servlet.ServletRamlResponse;
+import guru.nidi.ramltester.spring.SpringMockRamlRequest;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.*;
+import java.io.IOException;
+
+import static guru.nidi.ramltester.util.TestUtils.violations;
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ContentCaptureTest {
+    private static final RamlDefinition simple = RamlLoaders.fromClasspath(SimpleTest.class).load("simple.raml")
+            .assumingBaseUri("http://nidi.guru/raml/v1");
+    private static final RamlDefinition form = RamlLoaders.fromClasspath(SimpleTest.class).load("form.raml")
+            .assumingBaseUri("http://nidi.guru/raml/v1");
+
+    @Test
+    public void captureOnlyWithSchema() {
+        final RamlChecker checker = simple.createTester();
+        assertSame(ContentCapture.NONE, checker.contentCapture(request("GET", "/d")));
+        assertSame(ContentCapture.NONE, checker.contentCapture(request("GET", "/undefined")));
+        assertFalse(checker.contentCapture(request("GET", "/data")).request);
+        assertTrue(checker.contentCapture(request("GET", "/data")).response);
+        assertTrue(checker.contentCapture(request("POST", "/mediaType")).request);
+    }
+
+    @Test
+    public void captureWithFormParameters() {
+        assertTrue(form.createTester().contentCapture(request("POST", "/form")).request);
+    }
+
+    @Test
+    public void routeOnceForSampleCaptureAndCheck() {
+        final RamlChecker checker = simple.createTester();
+        final SpringMockRamlRequest request = request("GET", "/undefined");
+        final RamlChecker.Route route = checker.route(request);
+        assertTrue(checker.sample(route));
+        assertSame(ContentCapture.NONE, checker.contentCapture(route));
+        final RamlReport report = checker.check(route, request, null);
+        assertEquals(violations("Resource '/undefined' is not defined"), report.getRequestViolations());
+        try {
+            checker.check(route, request, null);
+            fail("Route can only be checked once");
+        } catch (IllegalStateException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void detectContentWithoutCapture() throws Exception {
+        final RamlReport report = simple.testAgainst(servletRequest("/d"), new MockHttpServletResponse(), new FilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+                response.setContentType("application/json");
+                for (int i = 0; i < 1000; i++) {
+                    response.getOutputStream().write("0123456789".getBytes("iso-8859-1"));
+                }
+            }
+        });
+        assertEquals(violations("Body given but none defined on action(GET /d) response(200)"), report.getResponseViolations());
+    }
+
+    @Test
+    public void uncapturedResponseKeepsFirstByte() throws IOException {
+        final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        final ServletRamlResponse response = new ServletRamlResponse(servletResponse, false);
+        response.getWriter().print("hello world");
+        assertArrayEquals("h".getBytes("iso-8859-1"), response.getContent());
+        assertEquals("hello world", servletResponse.getContentAsString());
+    }
+
+    @Test
+    public void uncapturedRequestStreamsThrough() throws IOException {
+        final MockHttpServletRequest servletRequest = servletRequest("/d");
+        servletRequest.setContent("hello world".getBytes("iso-8859-1"));
+        final ServletRamlRequest request = new ServletRamlRequest(servletRequest, false);
+        assertEquals("hello world", request.getReader().readLine());
+        assertArrayEquals("h".getBytes("iso-8859-1"), request.getContent());
+    }
+
+    @Test
+    public void uncapturedRequestReadsFirstByte() throws IOException {
+        final MockHttpServletRequest servletRequest = servletRequest("/d");
+        servletRequest.setContent("hello world".getBytes("iso-8859-1"));
+        assertArrayEquals("h".getBytes("iso-8859-1"), new ServletRamlRequest(servletRequest, false).getContent());
+
+        final MockHttpServletRequest emptyRequest = servletRequest("/d");
+        emptyRequest.setContent(new byte[0]);
+        assertEquals(0, new ServletRamlRequest(emptyRequest, false).getContent().length);
+    }
+
+    private static SpringMockRamlRequest request(String method, String path) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setPathInfo(path);
+        return new SpringMockRamlRequest(request);
+    }
+
+    private static MockHttpServletRequest servletRequest(String path) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setPathInfo(path);
+        return request;
+    }
+}
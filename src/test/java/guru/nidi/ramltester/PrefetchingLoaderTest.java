@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.loader.Loader;
+import guru.nidi.ramltester.util.IoUtils;
+import org.junit.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class PrefetchingLoaderTest {
+    @Test
+    public void resolve() {
+        assertEquals("a.json", PrefetchingLoader.resolve("root.raml", "a.json"));
+        assertEquals("dir/a.json", PrefetchingLoader.resolve("dir/root.raml", "a.json"));
+        assertEquals("dir/sub/a.json", PrefetchingLoader.resolve("dir/root.raml", "sub/a.json"));
+        assertEquals("/a.json", PrefetchingLoader.resolve("dir/root.raml", "/a.json"));
+        assertEquals("http://server/a.json", PrefetchingLoader.resolve("dir/root.raml", "http://server/a.json"));
+    }
+
+    @Test
+    public void includes() {
+        assertEquals(Arrays.asList("dir/a.json", "dir/sub/b.raml", "/c.json"),
+                PrefetchingLoader.includes("dir/root.raml", bytes("schema: !include a.json\n"
+                        + "x: !include 'sub/b.raml'\n"
+                        + "y:    !include \"/c.json\" #comment\n"
+                        + "z: include d.json")));
+    }
+
+    @Test
+    public void prefetchIncludesInParallel() throws IOException {
+        final SlowLoader slow = new SlowLoader();
+        slow.resources.put("root.raml", "a: !include a.raml\nb: !include b.json\nc: !include c.json");
+        slow.resources.put("a.raml", "d: !include sub/d.json");
+        slow.resources.put("b.json", "!include not-scanned.json");
+        slow.resources.put("c.json", "c");
+        slow.resources.put("sub/d.json", "d");
+        try (final PrefetchingLoader loader = new PrefetchingLoader(slow, 4)) {
+            loader.prefetch("root.raml");
+            for (final Map.Entry<String, String> resource : slow.resources.entrySet()) {
+                assertEquals(resource.getValue(), read(loader.fetchResource(resource.getKey(), -1)));
+            }
+        }
+        for (final String name : slow.resources.keySet()) {
+            assertEquals(name, 1, slow.fetches.get(name).get());
+        }
+        assertFalse(slow.fetches.containsKey("not-scanned.json"));
+        assertTrue(slow.maxParallel.get() > 1);
+    }
+
+    @Test
+    public void fetchUnknownFromDelegate() throws IOException {
+        final SlowLoader slow = new SlowLoader();
+        slow.resources.put("root.raml", "title: test");
+        slow.resources.put("other.json", "other");
+        try (final PrefetchingLoader loader = new PrefetchingLoader(slow, 2)) {
+            loader.prefetch("root.raml");
+            assertEquals("other", read(loader.fetchResource("other.json", -1)));
+        }
+    }
+
+    @Test
+    public void passConditionalFetchToDelegate() throws IOException {
+        final SlowLoader slow = new SlowLoader();
+        slow.resources.put("root.raml", "title: test");
+        try (final PrefetchingLoader loader = new PrefetchingLoader(slow, 2)) {
+            loader.prefetch("root.raml");
+            assertEquals("title: test", read(loader.fetchResource("root.raml", -1)));
+            assertEquals("title: test", read(loader.fetchResource("root.raml", 1000)));
+        }
+        assertEquals(2, slow.fetches.get("root.raml").get());
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(InputStream in) throws IOException {
+        return new String(IoUtils.readIntoByteArray(in), StandardCharsets.UTF_8);
+    }
+
+    private static class SlowLoader implements Loader {
+        final Map<String, String> resources = new LinkedHashMap<>();
+        final ConcurrentMap<String, AtomicInteger> fetches = new ConcurrentHashMap<>();
+        final AtomicInteger parallel = new AtomicInteger();
+        final AtomicInteger maxParallel = new AtomicInteger();
+
+        @Override
+        public InputStream fetchResource(String name, long ifModifiedSince) {
+            final AtomicInteger count = new AtomicInteger();
+            final AtomicInteger existing = fetches.putIfAbsent(name, count);
+            (existing == null ? count : existing).incrementAndGet();
+            final int current = parallel.incrementAndGet();
+            int max;
+            do {
+                max = maxParallel.get();
+            } while (current > max && !maxParallel.compareAndSet(max, current));
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                parallel.decrementAndGet();
+            }
+            final String resource = resources.get(name);
+            if (resource == null) {
+                throw new ResourceNotFoundException(name);
+            }
+            return new ByteArrayInputStream(bytes(resource));
+        }
+
+        @Override
+        public String config() {
+            return "slow";
+        }
+    }
+}
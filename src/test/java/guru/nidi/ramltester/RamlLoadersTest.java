@@ -16,16 +16,29 @@
 package guru.nidi.ramltester;
 
 import guru.nidi.Base;
+import org.junit.After;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 
-import static org.junit.Assert.assertEquals;
+import static guru.nidi.ramltester.util.TestUtils.deleteRecursively;
+import static guru.nidi.ramltester.util.TestUtils.listFiles;
+import static guru.nidi.ramltester.util.TestUtils.write;
+import static org.junit.Assert.*;
 
 /**
  *
  */
 public class RamlLoadersTest {
+    private File dir;
+
+    @After
+    public void cleanUp() {
+        deleteRecursively(dir);
+    }
+
     @Test
     public void fileString() {
         assertTitle(RamlLoaders.fromFile("src/test/resources/guru/nidi/ramltester"), "simple.raml", "simple");
@@ -91,6 +104,38 @@ public class RamlLoadersTest {
         assertTitle(loaders, "ramltester/simple.raml", "simple");
     }
 
+    @Test
+    public void prefetchingIncludes() {
+        final RamlDefinition api = RamlLoaders.fromClasspath(getClass()).prefetchingIncludes(4).load("include.raml");
+        assertEquals("include", api.getRaml().getTitle());
+        assertEquals(RamlLoaders.fromClasspath(getClass()).load("include.raml").getRaml().getResource("/site").getAction("GET").getResponses().get("201").getBody().get("application/json").getSchema(),
+                api.getRaml().getResource("/site").getAction("GET").getResponses().get("201").getBody().get("application/json").getSchema());
+    }
+
+    @Test
+    public void diskCache() throws IOException {
+        dir = Files.createTempDirectory("raml").toFile();
+        final File cache = new File(dir, "cache");
+        write(new File(dir, "cached.raml"), "#%RAML 0.8\n---\ntitle: first\nschemas:\n  - s: !include s.json\n");
+        write(new File(dir, "s.json"), "{\"type\":\"string\"}");
+        final RamlLoaders loaders = RamlLoaders.fromFile(dir).cachingOnDisk(cache);
+        assertTitle(loaders, "cached.raml", "first");
+
+        final File[] entries = listFiles(cache);
+        assertEquals(1, entries.length);
+        assertTrue(entries[0].setLastModified(100000));
+        assertTitle(loaders, "cached.raml", "first");
+        assertEquals("unchanged sources use the stored entry", 100000, listFiles(cache)[0].lastModified());
+
+        write(new File(dir, "s.json"), "{\"type\":\"integer\"}");
+        assertEquals("{\"type\":\"integer\"}", loaders.load("cached.raml").getRaml().getConsolidatedSchemas().get("s").trim());
+        assertNotEquals("a changed include is loaded again", 100000, listFiles(cache)[0].lastModified());
+
+        write(new File(dir, "cached.raml"), "#%RAML 0.8\n---\ntitle: second\n");
+        assertTitle(loaders, "cached.raml", "second");
+        assertEquals("no temp files are left behind", 1, listFiles(cache).length);
+    }
+
     private void assertTitle(RamlLoaders loaders, String raml, String expected) {
         assertEquals(expected, loaders.load(raml).getRaml().getTitle());
     }
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.loader.Loader;
+import guru.nidi.ramltester.core.RamlChecker;
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.servlet.ServletRamlRequest;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static guru.nidi.ramltester.util.TestUtils.deleteRecursively;
+import static guru.nidi.ramltester.util.TestUtils.write;
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ReloadableRamlDefinitionTest {
+    private static final String FIRST = "#%RAML 0.8\n---\ntitle: first\n/old:\n  get:\n";
+    private static final String SECOND = "#%RAML 0.8\n---\ntitle: second\n/new:\n  get:\n";
+
+    private File dir;
+
+    @After
+    public void cleanUp() {
+        deleteRecursively(dir);
+    }
+
+    @Test
+    public void reloadChangedFile() throws Exception {
+        dir = Files.createTempDirectory("raml").toFile();
+        write(new File(dir, "api.raml"), FIRST);
+        try (final ReloadableRamlDefinition reloadable = RamlLoaders.fromFile(dir).loadReloadable("api.raml", 60000)) {
+            assertEquals("first", reloadable.getDefinition().getRaml().getTitle());
+            write(new File(dir, "api.raml"), SECOND);
+            awaitTitle(reloadable, "second");
+        }
+    }
+
+    @Test
+    public void pollOtherResources() throws Exception {
+        final MapLoader loader = new MapLoader();
+        loader.resources.put("api.raml", FIRST);
+        try (final ReloadableRamlDefinition reloadable = RamlLoaders.using(loader).loadReloadable("api.raml", 20)) {
+            assertEquals("first", reloadable.getDefinition().getRaml().getTitle());
+            loader.resources.put("api.raml", SECOND);
+            awaitTitle(reloadable, "second");
+        }
+    }
+
+    @Test
+    public void keepPollingIfLoaderFails() throws Exception {
+        final MapLoader loader = new MapLoader();
+        loader.resources.put("api.raml", FIRST);
+        try (final ReloadableRamlDefinition reloadable = RamlLoaders.using(loader).loadReloadable("api.raml", 20)) {
+            loader.failures.set(3);
+            loader.resources.put("api.raml", SECOND);
+            awaitTitle(reloadable, "second");
+            assertEquals(0, loader.failures.get());
+        }
+    }
+
+    @Test
+    public void keepOldRamlIfReloadFails() {
+        final MapLoader loader = new MapLoader();
+        loader.resources.put("api.raml", FIRST);
+        try (final ReloadableRamlDefinition reloadable = RamlLoaders.using(loader).loadReloadable("api.raml", 60000)) {
+            loader.resources.put("api.raml", "#%RAML 0.8\n---\ntitle: [\n");
+            assertFalse(reloadable.reload());
+            assertEquals("first", reloadable.getDefinition().getRaml().getTitle());
+        }
+    }
+
+    @Test
+    public void existingTesterUsesNewRaml() {
+        final MapLoader loader = new MapLoader();
+        loader.resources.put("api.raml", FIRST);
+        try (final ReloadableRamlDefinition reloadable = RamlLoaders.using(loader).loadReloadable("api.raml", 60000)) {
+            reloadable.configure(reloadable.getDefinition().ignoringXheaders());
+            final RamlChecker tester = reloadable.createTester();
+            assertTrue(check(tester, "/old").isEmpty());
+            assertFalse(check(tester, "/new").isEmpty());
+
+            loader.resources.put("api.raml", SECOND);
+            assertTrue(reloadable.reload());
+            assertFalse(check(tester, "/old").isEmpty());
+            assertTrue(check(tester, "/new").isEmpty());
+            assertTrue("options are kept", check(tester, "/new", "X-Undefined").isEmpty());
+        }
+    }
+
+    private RamlReport check(RamlChecker tester, String path, String... headers) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        for (final String header : headers) {
+            request.addHeader(header, "value");
+        }
+        return tester.check(new ServletRamlRequest(request));
+    }
+
+    private void awaitTitle(ReloadableRamlDefinition reloadable, String title) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 20000;
+        while (!title.equals(reloadable.getDefinition().getRaml().getTitle()) && System.currentTimeMillis() < end) {
+            Thread.sleep(20);
+        }
+        assertEquals(title, reloadable.getDefinition().getRaml().getTitle());
+    }
+
+    private static class MapLoader implements Loader {
+        final Map<String, String> resources = new ConcurrentHashMap<>();
+        final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public InputStream fetchResource(String name, long ifModifiedSince) {
+            if (failures.get() > 0) {
+                failures.decrementAndGet();
+                throw new IllegalStateException("loader failure");
+            }
+            final String resource = resources.get(name);
+            if (resource == null) {
+                throw new ResourceNotFoundException(name);
+            }
+            return new ByteArrayInputStream(resource.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String config() {
+            return "map";
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester;
+
+import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.core.SamplingPolicy;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.*;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class SamplingTest {
+    private static final RamlDefinition simple = RamlLoaders.fromClasspath(SimpleTest.class).load("simple.raml")
+            .assumingBaseUri("http://nidi.guru/raml/v1");
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final FilterChain chain = new FilterChain() {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            calls.incrementAndGet();
+            response.setContentType("application/json");
+            response.getWriter().print("\"json string\"");
+        }
+    };
+
+    @Test
+    public void oneIn() throws Exception {
+        final SamplingPolicy policy = SamplingPolicy.oneIn(2);
+        final RamlDefinition sampling = simple.sampling(policy);
+        final RamlReport first = sampling.testAgainst(request("/data"), new MockHttpServletResponse(), chain);
+        final RamlReport second = sampling.testAgainst(request("/data"), new MockHttpServletResponse(), chain);
+        final RamlReport third = sampling.testAgainst(request("/data"), new MockHttpServletResponse(), chain);
+        assertNotNull(first);
+        assertNull(second);
+        assertNotNull(third);
+        assertEquals(3, calls.get());
+        assertEquals(2, policy.getSampled());
+        assertEquals(1, policy.getSkipped());
+    }
+
+    @Test
+    public void perAction() throws Exception {
+        final SamplingPolicy policy = SamplingPolicy.perActionPerSecond(1);
+        final RamlDefinition sampling = simple.sampling(policy);
+        assertNotNull(sampling.testAgainst(request("/data"), new MockHttpServletResponse(), chain));
+        assertNull(sampling.testAgainst(request("/data"), new MockHttpServletResponse(), chain));
+        assertNotNull(sampling.testAgainst(request("/schema"), new MockHttpServletResponse(), chain));
+        assertNotNull(sampling.testAgainst(request("/undefined"), new MockHttpServletResponse(), chain));
+        assertNull(sampling.testAgainst(request("/other"), new MockHttpServletResponse(), chain));
+        assertEquals(5, calls.get());
+        assertEquals(3, policy.getSampled());
+        assertEquals(2, policy.getSkipped());
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setPathInfo(path);
+        return request;
+    }
+}
@@ -18,6 +18,8 @@ package guru.nidi.ramltester;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import guru.nidi.ramltester.core.*;
+import guru.nidi.ramltester.validator.JavaXmlSchemaValidator;
+import guru.nidi.ramltester.validator.JsonSchemaValidator;
 import org.junit.Test;
 
 import java.io.UnsupportedEncodingException;
@@ -166,4 +168,37 @@ public class SchemaTest extends HighlevelTestBase {
         );
     }
 
+    @Test
+    public void cachedJsonSchema() throws Exception {
+        final JsonSchemaValidator validator = new JsonSchemaValidator();
+        final RamlDefinition raml = new RamlDefinition(simple.getRaml(), SchemaValidators.empty().addSchemaValidator(validator));
+        assertNoViolations(raml, get("/schema"), jsonResponse(200, "{\"s\":\"str\",\"i\":42}"));
+        assertNoViolations(raml, get("/schema"), jsonResponse(200, "{\"s\":\"str\",\"i\":43}"));
+        assertEquals(1, validator.getSchemaCache().getMisses());
+        assertEquals(1, validator.getSchemaCache().getHits());
+    }
+
+    @Test
+    public void precompiledJsonSchema() throws Exception {
+        final JsonSchemaValidator validator = new JsonSchemaValidator();
+        final SchemaValidators validators = SchemaValidators.empty().addSchemaValidator(validator);
+        new SchemaPrecompiler(simple.getRaml(), validators.getValidators()).precompile();
+        final long misses = validator.getSchemaCache().getMisses();
+        final long hits = validator.getSchemaCache().getHits();
+        assertNoViolations(new RamlDefinition(simple.getRaml(), validators), get("/schema"), jsonResponse(200, "{\"s\":\"str\",\"i\":42}"));
+        assertEquals(misses, validator.getSchemaCache().getMisses());
+        assertEquals(hits + 1, validator.getSchemaCache().getHits());
+    }
+
+    @Test
+    public void cachedXmlSchema() throws Exception {
+        final JavaXmlSchemaValidator validator = new JavaXmlSchemaValidator();
+        final RamlDefinition raml = new RamlDefinition(simple.getRaml(), SchemaValidators.empty().addSchemaValidator(validator));
+        assertNoViolations(raml, get("/schema"), response(208, "<api-request><input>str</input></api-request>", "text/xml"));
+        assertOneResponseViolationThat(raml, get("/schema"), response(208, "<api-request>str</api-request>", "text/xml"),
+                startsWith("Body does not match schema for action(GET /schema) response(208) mime-type('text/xml')"));
+        assertNoViolations(raml, get("/schema"), response(208, "<api-request><input>str</input></api-request>", "text/xml"));
+        assertEquals(1, validator.getSchemaCache().getMisses());
+        assertEquals(2, validator.getSchemaCache().getHits());
+    }
 }
@@ -16,9 +16,12 @@
 package guru.nidi.ramltester;
 
 import guru.nidi.ramltester.core.RamlReport;
+import guru.nidi.ramltester.core.SchemaPrecompiler;
+import guru.nidi.ramltester.validator.JsonSchemaValidator;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
@@ -169,4 +172,39 @@ public class SecurityTest extends HighlevelTestBase {
                 equalTo("Security Scheme 'd' on action(POST /sec) is not defined"));
     }
 
+    @Test
+    public void undefinedSecuritySchemaOnEveryRequest() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertOneRequestViolationThat(test(
+                    undef,
+                    post("/sec"),
+                    response(200, "", null)),
+                    equalTo("Security Scheme 'd' on action(POST /sec) is not defined"));
+        }
+    }
+
+    @Test
+    public void validateBodyOnlyOnceForMultipleSchemes() throws Exception {
+        final JsonSchemaValidator validator = new JsonSchemaValidator();
+        final RamlDefinition raml = new RamlDefinition(local.getRaml(), SchemaValidators.empty().addSchemaValidator(validator));
+        assertOneResponseViolationThat(test(
+                raml,
+                get("/schemaSec"),
+                jsonResponse(200, "42")),
+                startsWith("Assuming security scheme 'null': Body does not match schema for action(GET /schemaSec) response(200) mime-type('application/json')"));
+        assertEquals(1, validator.getSchemaCache().getMisses() + validator.getSchemaCache().getHits());
+    }
+
+    @Test
+    public void precompileSecuritySchemeResponses() throws Exception {
+        final JsonSchemaValidator validator = new JsonSchemaValidator();
+        final SchemaValidators validators = SchemaValidators.empty().addSchemaValidator(validator);
+        new SchemaPrecompiler(local.getRaml(), validators.getValidators()).precompile();
+        final long misses = validator.getSchemaCache().getMisses();
+        assertNoViolations(test(
+                new RamlDefinition(local.getRaml(), validators),
+                get("/uniqueSec").header("AuthorizationReq", "blu"),
+                jsonResponse(401, "{}")));
+        assertEquals(misses, validator.getSchemaCache().getMisses());
+    }
 }
@@ -45,6 +45,7 @@ import java.util.concurrent.*;
 import java.util.zip.GZIPOutputStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 /**
@@ -113,6 +114,23 @@ public class ServletRamlMessageTest extends ServerTest {
         });
     }
 
+    @Test
+    public void memoized() throws Exception {
+        final HttpPost post = new HttpPost(url("test/more?param=value"));
+        post.setEntity(new ByteArrayEntity(new byte[]{65, 66, 67}));
+
+        execute(post, new MessageTester() {
+            @Override
+            public void test(HttpServletRequest servletRequest, HttpServletResponse servletResponse, RamlRequest ramlRequest, RamlResponse ramlResponse) throws IOException {
+                assertSame(ramlRequest.getHeaderValues(), ramlRequest.getHeaderValues());
+                assertSame(ramlRequest.getQueryValues(), ramlRequest.getQueryValues());
+                assertSame(ramlRequest.getContent(), ramlRequest.getContent());
+                assertSame(ramlResponse.getHeaderValues(), ramlResponse.getHeaderValues());
+                assertSame(ramlResponse.getContent(), ramlResponse.getContent());
+            }
+        });
+    }
+
     @Test
     public void urlEncodedForm() throws Exception {
         final HttpPost post = new HttpPost(url("test/more"));
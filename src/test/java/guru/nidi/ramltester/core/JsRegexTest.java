@@ -40,6 +40,72 @@ public class JsRegexTest {
         assertTrue(JsRegex.matches("A/b", "/a\\/b/i"));
     }
 
+    @Test
+    public void javascriptSemantics() {
+        assertFalse(JsRegex.matches("a\n", "a$", null));
+        assertTrue(JsRegex.matches("a\nb", "a$", "m"));
+        assertTrue(JsRegex.matches("\u0085", ".", null));
+        assertTrue(JsRegex.matches("\u00a0", "^\\s$", null));
+        assertTrue(JsRegex.matches("\u00e9foo", "\\bfoo", null));
+        assertTrue(JsRegex.matches("\u000b", "\\v", null));
+        assertTrue(JsRegex.matches("\n", "\\cj", null));
+        assertTrue(JsRegex.matches("A", "\\101", null));
+        assertTrue(JsRegex.matches("\b", "[\\b]", null));
+        assertFalse(JsRegex.matches("a", "[]", null));
+        assertTrue(JsRegex.matches("\n", "[^]", null));
+    }
+
+    @Test
+    public void javaOnlyConstructsAreLiterals() {
+        assertTrue(JsRegex.matches("a{", "a{", null));
+        assertTrue(JsRegex.matches("x{foo}", "{foo}", null));
+        assertTrue(JsRegex.matches("QxE", "\\Qx\\E", null));
+        assertTrue(JsRegex.matches("p{L}", "\\p{L}", null));
+        assertTrue(JsRegex.matches("&", "[a&&b]", null));
+        assertTrue(JsRegex.matches("[", "[[]", null));
+        assertTrue(JsRegex.matches("-", "[a-\\d]", null));
+    }
+
+    @Test
+    public void negatedNestedClass() {
+        assertTrue(JsRegex.matches(" ", "[^\\Sa]", null));
+        assertFalse(JsRegex.matches("a", "[^\\Sa]", null));
+        assertFalse(JsRegex.matches("b", "[^\\Sa]", null));
+    }
+
+    @Test
+    public void backReferences() {
+        assertTrue(JsRegex.matches("aa", "(a)\\1", null));
+        assertTrue(JsRegex.matches("a\u0002", "(a)\\2", null));
+        assertTrue(JsRegex.matches("aa", "(?<n>a)\\k<n>", null));
+    }
+
+    @Test(expected = JsRegex.InvalidRegexException.class)
+    public void invalidGroup() {
+        JsRegex.matches("", "(?i)a", null);
+    }
+
+    @Test(expected = JsRegex.InvalidRegexException.class)
+    public void invalidQuantifier() {
+        JsRegex.matches("", "a++", null);
+    }
+
+    @Test(expected = JsRegex.InvalidRegexException.class)
+    public void quantifiedQuantifier() {
+        JsRegex.matches("", "a{1,2}{3}", null);
+    }
+
+    @Test
+    public void braceAfterQuantifier() {
+        assertTrue(JsRegex.matches("a{x}", "^a{1}{x}$", null));
+        assertTrue(JsRegex.matches("aa", "^a*?a$", null));
+    }
+
+    @Test(expected = JsRegex.InvalidRegexException.class)
+    public void repeatedModifier() {
+        JsRegex.matches("", "a", "ii");
+    }
+
     @Test(expected = JsRegex.InvalidRegexException.class)
     public void invalidPattern() {
         JsRegex.matches("", "^[a-z", null);
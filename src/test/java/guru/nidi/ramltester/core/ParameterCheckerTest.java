@@ -79,6 +79,31 @@ public class ParameterCheckerTest extends CoreTestBase {
         assertOneViolationThat(p, "667", equalTo("BaseUri parameter 'xxx' on action - Value '667' is bigger than maximum 666"));
     }
 
+    @Test
+    public void fractionLimitedIntegerType() {
+        final QueryParameter p = new QueryParameter();
+        p.setType(ParamType.INTEGER);
+        p.setMinimum(BigDecimal.valueOf(-5.5));
+        p.setMaximum(BigDecimal.valueOf(6.5));
+        for (final String value : new String[]{"-5", "6"}) {
+            assertNoViolation(p, value);
+        }
+        assertOneViolationThat(p, "-6", equalTo("BaseUri parameter 'xxx' on action - Value '-6' is smaller than minimum -5.5"));
+        assertOneViolationThat(p, "7", equalTo("BaseUri parameter 'xxx' on action - Value '7' is bigger than maximum 6.5"));
+    }
+
+    @Test
+    public void bigIntegerType() {
+        final QueryParameter p = new QueryParameter();
+        p.setType(ParamType.INTEGER);
+        p.setMaximum(new BigDecimal("100000000000000000000"));
+        for (final String value : new String[]{"-123456789012345678901234", "99999999999999999999", "100000000000000000000"}) {
+            assertNoViolation(p, value);
+        }
+        assertOneViolationThat(p, "100000000000000000001",
+                equalTo("BaseUri parameter 'xxx' on action - Value '100000000000000000001' is bigger than maximum 100,000,000,000,000,000,000"));
+    }
+
     @Test
     public void numberType() {
         final QueryParameter p = new QueryParameter();
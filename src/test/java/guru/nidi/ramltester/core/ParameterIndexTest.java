@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import org.junit.Test;
+import org.raml.model.parameter.AbstractParam;
+import org.raml.model.parameter.Header;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ *
+ */
+public class ParameterIndexTest {
+    @Test
+    public void exact() {
+        final ParameterIndex index = index(true, "a", "B", "x-{?}");
+        assertEquals("a", index.find("a", true));
+        assertEquals("B", index.find("B", true));
+        assertNull(index.find("b", true));
+        assertNull(index.find("c", true));
+        assertEquals("x-{?}", index.find("x-{?}", false));
+    }
+
+    @Test
+    public void caseInsensitive() {
+        final ParameterIndex index = index(false, "Accept", "X-{?}-Id");
+        assertEquals("Accept", index.find("accept", true));
+        assertEquals("Accept", index.find("ACCEPT", false));
+        assertEquals("X-{?}-Id", index.find("x-request-id", true));
+    }
+
+    @Test
+    public void wildcard() {
+        final ParameterIndex index = index(true, "{?}-end", "start-{?}", "in{?}side", "a{?}a");
+        assertEquals("{?}-end", index.find("the-end", true));
+        assertEquals("start-{?}", index.find("start-here", true));
+        assertEquals("in{?}side", index.find("inside", true));
+        assertEquals("in{?}side", index.find("in-and-outside", true));
+        assertEquals("a{?}a", index.find("a", true));
+        assertNull(index.find("start", true));
+        assertNull(index.find("start-here", false));
+    }
+
+    @Test
+    public void firstDeclarationWins() {
+        assertEquals("x-{?}", index(true, "x-{?}", "x-a").find("x-a", true));
+        assertEquals("x-a", index(true, "x-a", "x-{?}").find("x-a", true));
+        assertEquals("{?}-b", index(true, "{?}-b", "a-{?}").find("a-b", true));
+    }
+
+    private ParameterIndex index(boolean caseSensitive, String... names) {
+        final Map<String, AbstractParam> params = new LinkedHashMap<>();
+        for (final String name : names) {
+            params.put(name, new Header());
+        }
+        return ParameterIndex.ofSingle(params, caseSensitive);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.RamlDefinition;
+import guru.nidi.ramltester.RamlLoaders;
+import guru.nidi.ramltester.spring.SpringMockRamlRequest;
+import org.junit.Test;
+import org.raml.model.Action;
+import org.raml.model.ActionType;
+import org.springframework.mock.web.MockServletContext;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ *
+ */
+public class RamlCheckerTest extends CoreTestBase {
+    private static final RamlDefinition LOCAL = RamlLoaders.fromClasspath(RamlCheckerTest.class).load("../local-security.raml");
+
+    @Test
+    public void checkRequestAssumingGivenSecurity() {
+        final Action action = LOCAL.getRaml().getResource("/uniqueSec").getAction(ActionType.GET);
+        final RamlReport report = LOCAL.createTester().checkRequest(
+                new SpringMockRamlRequest(get("/uniqueSec").buildRequest(new MockServletContext())),
+                action, new SecurityExtractor(LOCAL.getRaml(), action, new RamlViolations()));
+        assertOneViolationThat(report.getRequestViolations(),
+                equalTo("Header 'AuthorizationReq' on action(GET /uniqueSec) is required but not found"));
+    }
+}
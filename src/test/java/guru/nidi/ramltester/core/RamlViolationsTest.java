@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.Message;
+import org.junit.Test;
+import org.raml.model.Resource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ */
+public class RamlViolationsTest extends CoreTestBase {
+    @Test
+    public void formatOnlyWhenNeeded() {
+        final RamlViolations violations = new RamlViolations();
+        final CountingParam param = new CountingParam();
+        violations.add(new Message("resource.undefined", param));
+        assertEquals(1, violations.size());
+        assertEquals(0, param.count);
+        assertEquals("Resource 'param' is not defined", violations.iterator().next().getMessage());
+        assertEquals("Resource 'param' is not defined", violations.iterator().next().getMessage());
+        assertEquals(1, param.count);
+    }
+
+    @Test
+    public void locatorChangesDoNotAffectAddedMessages() {
+        final RamlViolations violations = new RamlViolations();
+        final Locator locator = new Locator();
+        violations.add(new Message("headerParam", locator, "h").withMessageParam("undefined"));
+        locator.resource(new Resource());
+        assertOneViolationThat(violations, equalTo("Header 'h' on Root definition is not defined"));
+    }
+
+    private static class CountingParam {
+        private int count;
+
+        @Override
+        public String toString() {
+            count++;
+            return "param";
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class SamplingPolicyTest {
+    @Test
+    public void all() {
+        final SamplingPolicy policy = SamplingPolicy.all();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(policy.sample(null, null));
+        }
+        assertEquals(10, policy.getSampled());
+        assertEquals(0, policy.getSkipped());
+    }
+
+    @Test
+    public void oneIn() {
+        final SamplingPolicy policy = SamplingPolicy.oneIn(3);
+        final StringBuilder s = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            s.append(policy.sample(null, null) ? 'x' : '.');
+        }
+        assertEquals("x..x..x", s.toString());
+        assertEquals(3, policy.getSampled());
+        assertEquals(4, policy.getSkipped());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oneInZero() {
+        SamplingPolicy.oneIn(0);
+    }
+
+    @Test
+    public void perSecond() {
+        final SamplingPolicy policy = SamplingPolicy.perSecond(5);
+        for (int i = 0; i < 100; i++) {
+            policy.sample(null, null);
+        }
+        //5 initial tokens plus what is refilled while looping
+        assertTrue(policy.getSampled() >= 5 && policy.getSampled() < 10);
+        assertEquals(100, policy.getSampled() + policy.getSkipped());
+    }
+
+    @Test
+    public void perSecondRefills() throws InterruptedException {
+        final SamplingPolicy policy = SamplingPolicy.perSecond(20);
+        for (int i = 0; i < 100; i++) {
+            policy.sample(null, null);
+        }
+        assertFalse(policy.sample(null, null));
+        Thread.sleep(200);
+        assertTrue(policy.sample(null, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void perSecondNegative() {
+        SamplingPolicy.perSecond(-1);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.core;
+
+import guru.nidi.ramltester.util.IoUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ */
+public class SchemaCacheTest {
+    private static final SchemaCache.Compiler<String, RuntimeException> COMPILER = new SchemaCache.Compiler<String, RuntimeException>() {
+        @Override
+        public String compile(Reader schema) throws IOException {
+            return IoUtils.readIntoString(schema);
+        }
+    };
+
+    @Test
+    public void cacheSameText() throws IOException {
+        final SchemaCache<String> cache = new SchemaCache<>();
+        assertEquals("a", cache.get(new StringReader("a"), COMPILER));
+        assertEquals("a", cache.get(new StringReader("a"), COMPILER));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void evictBeyondMaximumSize() throws IOException {
+        final SchemaCache<String> cache = new SchemaCache<>(1);
+        cache.get(new StringReader("a"), COMPILER);
+        cache.get(new StringReader("b"), COMPILER);
+        assertEquals(1, cache.size());
+        cache.get(new StringReader("a"), COMPILER);
+        assertEquals(3, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+}
@@ -61,6 +61,24 @@ public class MediaTypeTest {
         assertEquals(Collections.singletonMap("a", "b"), mediaType.getParameters());
     }
 
+    @Test
+    public void parsedTypesAreCached() {
+        assertSame(valueOf("type/sub;a=b"), valueOf("type/sub;a=b"));
+        assertSame(MediaType.JSON, valueOf("application/json"));
+    }
+
+    @Test
+    public void illegalTypesAreNotCached() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                valueOf("a/b;q=2");
+                fail("Expected InvalidMediaTypeException");
+            } catch (InvalidMediaTypeException e) {
+                //expected
+            }
+        }
+    }
+
     @Test
     public void wildcardTypeCompatibility() {
         assertTrue(compatible("a/b", "*"));
@@ -18,6 +18,8 @@ package guru.nidi.ramltester.util;
 import guru.nidi.ramltester.core.RamlViolations;
 import guru.nidi.ramltester.model.Values;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -74,6 +76,35 @@ public class TestUtils {
         return violations;
     }
 
+    public static void write(File file, String content) throws IOException {
+        try (final Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write(content);
+        }
+    }
+
+    public static File[] listFiles(File directory) {
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            throw new AssertionError(directory + " is not a directory");
+        }
+        return files;
+    }
+
+    public static void deleteRecursively(File file) {
+        if (file == null) {
+            return;
+        }
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (final File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        if (!file.delete() && file.exists()) {
+            throw new IllegalStateException("Could not delete " + file);
+        }
+    }
+
     private static class SimpleMessage extends Message {
 
         public SimpleMessage(String key, Object... params) {
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2014 Stefan Niederhauser (nidin@gmx.ch)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package guru.nidi.ramltester.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class UriComponentsTest {
+    @Test
+    public void full() {
+        final UriComponents uri = UriComponents.fromHttpUrl("HTTPS://user:pw@host.com:8080/path/to?a=1&b");
+        assertEquals("https", uri.getScheme());
+        assertEquals("user:pw", uri.getUserInfo());
+        assertEquals("host.com", uri.getHost());
+        assertEquals(Integer.valueOf(8080), uri.getPort());
+        assertEquals("/path/to", uri.getPath());
+        assertEquals("a=1&b", uri.getQueryString());
+        assertEquals("https://user:pw@host.com:8080", uri.getServer());
+        assertEquals("https://user:pw@host.com:8080/path/to", uri.getUri());
+    }
+
+    @Test
+    public void minimal() {
+        final UriComponents uri = UriComponents.fromHttpUrl("http://host");
+        assertNull(uri.getUserInfo());
+        assertEquals("host", uri.getHost());
+        assertNull(uri.getPort());
+        assertEquals("", uri.getPath());
+        assertNull(uri.getQueryString());
+        assertEquals(0, uri.getQueryParameters().size());
+    }
+
+    @Test
+    public void ipv6() {
+        final UriComponents uri = UriComponents.fromHttpUrl("http://[::1%eth0]:80/p");
+        assertEquals("[::1%eth0]", uri.getHost());
+        assertEquals(Integer.valueOf(80), uri.getPort());
+        assertEquals("/p", uri.getPath());
+    }
+
+    @Test
+    public void emptyPort() {
+        final UriComponents uri = UriComponents.fromHttpUrl("http://host:/p");
+        assertNull(uri.getPort());
+        assertEquals("/p", uri.getPath());
+    }
+
+    @Test
+    public void fragmentInQuery() {
+        final UriComponents uri = UriComponents.fromHttpUrl("http://host/p?a#b");
+        assertEquals("a#b", uri.getQueryString());
+    }
+
+    @Test
+    public void userInfoNotMatchingFallsBackToHost() {
+        final UriComponents uri = UriComponents.fromHttpUrl("http://a?b@c#d");
+        assertNull(uri.getUserInfo());
+        assertEquals("a", uri.getHost());
+        assertEquals("b@c#d", uri.getQueryString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noScheme() {
+        UriComponents.fromHttpUrl("/path");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void otherScheme() {
+        UriComponents.fromHttpUrl("ftp://host/path");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyHost() {
+        UriComponents.fromHttpUrl("http:///path");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fragmentWithoutQuery() {
+        UriComponents.fromHttpUrl("http://host/path#frag");
+    }
+
+    @Test
+    public void query() {
+        assertEquals(TestUtils.valuesOf("a", "1", "b", "", "c", new String[]{null}, "ignored", new String[]{null}, "d", "x=y"),
+                UriComponents.parseQuery("a=1&b=&&c&=ignored&d=x=y"));
+    }
+
+    @Test
+    public void repeatedQuery() {
+        assertEquals(TestUtils.valuesOf("a", new String[]{"1", "%20"}),
+                UriComponents.parseQuery("a=1&a=%20"));
+    }
+}